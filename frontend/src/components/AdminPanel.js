@@ -30,6 +30,7 @@ const AdminPanel = () => {
   const [posts, setPosts] = useState([]);
   const [tags, setTags] = useState([]);
   const [users, setUsers] = useState([]);
+  const [usersCursor, setUsersCursor] = useState(null);
   const [loading, setLoading] = useState(true);
   const [currentPage, setCurrentPage] = useState(0);
   const [totalPages, setTotalPages] = useState(0);
@@ -72,15 +73,19 @@ const AdminPanel = () => {
     }
   }, []);
 
-  const fetchUsers = useCallback(async () => {
+  const fetchUsers = useCallback(async (after) => {
     try {
       setLoading(true);
-      const response = await usersAPI.getAllUsers();
-      setUsers(response.data || []);
+      const response = await usersAPI.getUsers({ after, size: 50 });
+      const page = response.data || {};
+      setUsers(prev => (after ? [...prev, ...(page.content || [])] : page.content || []));
+      setUsersCursor(page.hasNext ? page.nextCursor : null);
     } catch (error) {
       console.error('Error fetching users:', error);
       toast.error(t('messages.error.usersLoadError'));
-      setUsers([]);
+      if (!after) {
+        setUsers([]);
+      }
     } finally {
       setLoading(false);
     }
@@ -215,6 +220,8 @@ const AdminPanel = () => {
       <UsersManagement 
         users={users}
         formatDate={formatDate}
+        hasMore={usersCursor !== null}
+        onLoadMore={() => fetchUsers(usersCursor)}
       />
     );
   };
@@ -682,96 +689,110 @@ const EditTagForm = ({ tag, onSave, onCancel }) => {
   );
 };
 
-const UsersManagement = ({ users, formatDate }) => (
-  <div className="bg-white dark:bg-gray-800 rounded-lg shadow border border-gray-200 dark:border-gray-700">
-    <div className="px-6 py-4 border-b border-gray-200 dark:border-gray-700">
-      <h3 className="text-lg font-medium text-gray-900 dark:text-gray-100">
-        Kullanıcı Yönetimi
-      </h3>
-    </div>
+const UsersManagement = ({ users, formatDate, hasMore, onLoadMore }) => {
+  const { t } = useTranslation();
 
-    {users.length === 0 ? (
-      <div className="text-center py-12">
-        <Users className="h-16 w-16 text-gray-400 dark:text-gray-500 mx-auto mb-4" />
-        <h3 className="text-lg font-medium text-gray-900 dark:text-gray-100 mb-2">
-          Henüz kullanıcı yok
+  return (
+    <div className="bg-white dark:bg-gray-800 rounded-lg shadow border border-gray-200 dark:border-gray-700">
+      <div className="px-6 py-4 border-b border-gray-200 dark:border-gray-700">
+        <h3 className="text-lg font-medium text-gray-900 dark:text-gray-100">
+          Kullanıcı Yönetimi
         </h3>
-        <p className="text-gray-600 dark:text-gray-300">
-          İlk kullanıcı kayıt olduğunda burada görünecek.
-        </p>
       </div>
-    ) : (
-      <div className="overflow-x-auto">
-        <table className="min-w-full divide-y divide-gray-200 dark:divide-gray-700">
-          <thead className="bg-gray-50 dark:bg-gray-700">
-            <tr>
-              <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 dark:text-gray-300 uppercase tracking-wider">
-                Kullanıcı
-              </th>
-              <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 dark:text-gray-300 uppercase tracking-wider">
-                Email
-              </th>
-              <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 dark:text-gray-300 uppercase tracking-wider">
-                Rol
-              </th>
-              <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 dark:text-gray-300 uppercase tracking-wider">
-                ID
-              </th>
-            </tr>
-          </thead>
-          <tbody className="bg-white dark:bg-gray-800 divide-y divide-gray-200 dark:divide-gray-700">
-            {users.map((userData) => (
-              <tr key={userData.id} className="hover:bg-gray-50 dark:hover:bg-gray-700">
-                <td className="px-6 py-4 whitespace-nowrap">
-                  <div className="flex items-center">
-                    <div className="flex-shrink-0 h-10 w-10">
-                      <div className="h-10 w-10 rounded-full bg-primary-100 dark:bg-primary-900/20 flex items-center justify-center">
-                        <User className="h-5 w-5 text-primary-600 dark:text-primary-400" />
+
+      {users.length === 0 ? (
+        <div className="text-center py-12">
+          <Users className="h-16 w-16 text-gray-400 dark:text-gray-500 mx-auto mb-4" />
+          <h3 className="text-lg font-medium text-gray-900 dark:text-gray-100 mb-2">
+            Henüz kullanıcı yok
+          </h3>
+          <p className="text-gray-600 dark:text-gray-300">
+            İlk kullanıcı kayıt olduğunda burada görünecek.
+          </p>
+        </div>
+      ) : (
+        <div className="overflow-x-auto">
+          <table className="min-w-full divide-y divide-gray-200 dark:divide-gray-700">
+            <thead className="bg-gray-50 dark:bg-gray-700">
+              <tr>
+                <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 dark:text-gray-300 uppercase tracking-wider">
+                  Kullanıcı
+                </th>
+                <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 dark:text-gray-300 uppercase tracking-wider">
+                  Email
+                </th>
+                <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 dark:text-gray-300 uppercase tracking-wider">
+                  Rol
+                </th>
+                <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 dark:text-gray-300 uppercase tracking-wider">
+                  ID
+                </th>
+              </tr>
+            </thead>
+            <tbody className="bg-white dark:bg-gray-800 divide-y divide-gray-200 dark:divide-gray-700">
+              {users.map((userData) => (
+                <tr key={userData.id} className="hover:bg-gray-50 dark:hover:bg-gray-700">
+                  <td className="px-6 py-4 whitespace-nowrap">
+                    <div className="flex items-center">
+                      <div className="flex-shrink-0 h-10 w-10">
+                        <div className="h-10 w-10 rounded-full bg-primary-100 dark:bg-primary-900/20 flex items-center justify-center">
+                          <User className="h-5 w-5 text-primary-600 dark:text-primary-400" />
+                        </div>
                       </div>
-                    </div>
-                    <div className="ml-4">
-                      <div className="text-sm font-medium text-gray-900 dark:text-gray-100">
-                        {userData.username}
+                      <div className="ml-4">
+                        <div className="text-sm font-medium text-gray-900 dark:text-gray-100">
+                          {userData.username}
+                        </div>
                       </div>
                     </div>
-                  </div>
-                </td>
-                <td className="px-6 py-4 whitespace-nowrap">
-                  <div className="flex items-center">
-                    <Mail className="h-4 w-4 text-gray-400 dark:text-gray-500 mr-2" />
-                    <span className="text-sm text-gray-900 dark:text-gray-100">{userData.email}</span>
-                  </div>
-                </td>
-                <td className="px-6 py-4 whitespace-nowrap">
-                  <div className="flex items-center">
-                    {userData.role === 'ADMIN' ? (
-                      <>
-                        <Crown className="h-4 w-4 text-yellow-500 mr-2" />
-                        <span className="inline-flex items-center px-2.5 py-0.5 rounded-full text-xs font-medium bg-yellow-100 dark:bg-yellow-900/20 text-yellow-800 dark:text-yellow-400">
-                          Admin
-                        </span>
-                      </>
-                    ) : (
-                      <>
-                        <User className="h-4 w-4 text-gray-400 dark:text-gray-500 mr-2" />
-                        <span className="inline-flex items-center px-2.5 py-0.5 rounded-full text-xs font-medium bg-gray-100 dark:bg-gray-700 text-gray-800 dark:text-gray-200">
-                          Kullanıcı
-                        </span>
-                      </>
-                    )}
-                  </div>
-                </td>
-                <td className="px-6 py-4 whitespace-nowrap">
-                  <span className="text-sm text-gray-500 dark:text-gray-400">#{userData.id}</span>
-                </td>
-              </tr>
-            ))}
-          </tbody>
-        </table>
-      </div>
-    )}
-  </div>
-);
+                  </td>
+                  <td className="px-6 py-4 whitespace-nowrap">
+                    <div className="flex items-center">
+                      <Mail className="h-4 w-4 text-gray-400 dark:text-gray-500 mr-2" />
+                      <span className="text-sm text-gray-900 dark:text-gray-100">{userData.email}</span>
+                    </div>
+                  </td>
+                  <td className="px-6 py-4 whitespace-nowrap">
+                    <div className="flex items-center">
+                      {userData.role === 'ADMIN' ? (
+                        <>
+                          <Crown className="h-4 w-4 text-yellow-500 mr-2" />
+                          <span className="inline-flex items-center px-2.5 py-0.5 rounded-full text-xs font-medium bg-yellow-100 dark:bg-yellow-900/20 text-yellow-800 dark:text-yellow-400">
+                            Admin
+                          </span>
+                        </>
+                      ) : (
+                        <>
+                          <User className="h-4 w-4 text-gray-400 dark:text-gray-500 mr-2" />
+                          <span className="inline-flex items-center px-2.5 py-0.5 rounded-full text-xs font-medium bg-gray-100 dark:bg-gray-700 text-gray-800 dark:text-gray-200">
+                            Kullanıcı
+                          </span>
+                        </>
+                      )}
+                    </div>
+                  </td>
+                  <td className="px-6 py-4 whitespace-nowrap">
+                    <span className="text-sm text-gray-500 dark:text-gray-400">#{userData.id}</span>
+                  </td>
+                </tr>
+              ))}
+            </tbody>
+          </table>
+          {hasMore && (
+            <div className="px-6 py-4 border-t border-gray-200 dark:border-gray-700 text-center">
+              <button
+                onClick={onLoadMore}
+                className="px-4 py-2 text-sm font-medium text-primary-600 dark:text-primary-400 hover:text-primary-700 dark:hover:text-primary-300"
+              >
+                {t('common.loadMore')}
+              </button>
+            </div>
+          )}
+        </div>
+      )}
+    </div>
+  );
+};
 
 PostsManagement.propTypes = {
   posts: PropTypes.array.isRequired,
@@ -810,7 +831,9 @@ EditTagForm.propTypes = {
 
 UsersManagement.propTypes = {
   users: PropTypes.array.isRequired,
-  formatDate: PropTypes.func.isRequired
+  formatDate: PropTypes.func.isRequired,
+  hasMore: PropTypes.bool.isRequired,
+  onLoadMore: PropTypes.func.isRequired
 };
 
 export default AdminPanel; 
\ No newline at end of file
@@ -22,6 +22,7 @@ const Home = () => {
   const [currentPage, setCurrentPage] = useState(0);
   const [totalPages, setTotalPages] = useState(0);
   const [totalElements, setTotalElements] = useState(0);
+  const [cursors, setCursors] = useState(['']);
   const { isAuthenticated } = useAuth();
 
   const pageSize = 6;
@@ -33,10 +34,24 @@ const Home = () => {
   const fetchPosts = async () => {
     try {
       setLoading(true);
-      const response = await postsAPI.getAllPosts(currentPage, pageSize, searchTerm);
-      setPosts(response.data.content || []);
-      setTotalPages(response.data.totalPages || 0);
-      setTotalElements(response.data.totalElements || 0);
+      if (searchTerm.trim()) {
+        const response = await postsAPI.getAllPosts(currentPage, pageSize, searchTerm);
+        setPosts(response.data.content || []);
+        setTotalPages(response.data.totalPages || 0);
+        setTotalElements(response.data.totalElements || 0);
+      } else {
+        // Without a search, pages are read by cursor so deep pages cost no more
+        // than the first; only the pages reached so far can be numbered.
+        const response = await postsAPI.getPostsAfter(cursors[currentPage] || '', pageSize);
+        const page = response.data || {};
+        setPosts(page.content || []);
+        setCursors(prev => {
+          const next = prev.slice(0, currentPage + 1);
+          return page.hasNext ? [...next, page.nextCursor] : next;
+        });
+        setTotalPages(currentPage + (page.hasNext ? 2 : 1));
+        setTotalElements(0);
+      }
     } catch (error) {
       if (error.response) {
         toast.error(t('messages.error.postsLoadError'));
@@ -56,6 +71,7 @@ const Home = () => {
   const handleSearch = (e) => {
     if (e.key === 'Enter') {
       setCurrentPage(0);
+      setCursors(['']);
       fetchPosts();
     }
   };
@@ -187,9 +203,16 @@ const Home = () => {
                   </Link>
                 </h2>
 
-                <p className="text-gray-600 dark:text-gray-300 mb-4 line-clamp-3">
-                  {truncateContent(post.content)}
-                </p>
+                {post.snippet ? (
+                  <p
+                    className="text-gray-600 dark:text-gray-300 mb-4 line-clamp-3"
+                    dangerouslySetInnerHTML={{ __html: post.snippet }}
+                  />
+                ) : (
+                  <p className="text-gray-600 dark:text-gray-300 mb-4 line-clamp-3">
+                    {truncateContent(post.content)}
+                  </p>
+                )}
 
                 {/* Tags */}
                 {post.tags && post.tags.length > 0 && (
@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { Link, useNavigate } from 'react-router-dom';
 import { useTranslation } from 'react-i18next';
-import { postsAPI } from '../services/api';
+import { postsAPI, tagsAPI } from '../services/api';
 import { useAuth } from '../contexts/AuthContext';
 import { 
   User, 
@@ -18,6 +18,8 @@ const Profile = () => {
   const { t } = useTranslation();
   const { user } = useAuth();
   const [userPosts, setUserPosts] = useState([]);
+  const [postsCursor, setPostsCursor] = useState(null);
+  const [tagNames, setTagNames] = useState({});
   const [loading, setLoading] = useState(true);
   const [deleteLoading, setDeleteLoading] = useState(null);
   const [showDeleteModal, setShowDeleteModal] = useState(null);
@@ -25,14 +27,19 @@ const Profile = () => {
   useEffect(() => {
     if (user) {
       fetchUserPosts();
+      fetchTagNames();
     }
   }, [user]); // eslint-disable-line react-hooks/exhaustive-deps
 
-  const fetchUserPosts = async () => {
+  const fetchUserPosts = async (after) => {
     try {
-      setLoading(true);
-      const response = await postsAPI.getPostsByUser(user.id);
-      setUserPosts(response.data || []);
+      if (!after) {
+        setLoading(true);
+      }
+      const response = await postsAPI.getPostsByUser(user.id, { after, size: 10 });
+      const page = response.data || {};
+      setUserPosts(prev => (after ? [...prev, ...(page.content || [])] : page.content || []));
+      setPostsCursor(page.hasNext ? page.nextCursor : null);
     } catch (error) {
       if (error.response) {
         toast.error(t('messages.error.userPostsLoadError'));
@@ -41,12 +48,23 @@ const Profile = () => {
       } else {
         console.error('Error fetching user posts:', error);
       }
-      setUserPosts([]);
+      if (!after) {
+        setUserPosts([]);
+      }
     } finally {
       setLoading(false);
     }
   };
 
+  const fetchTagNames = async () => {
+    try {
+      const response = await tagsAPI.getAllTags();
+      setTagNames(Object.fromEntries((response.data || []).map(tag => [tag.id, tag.name])));
+    } catch (error) {
+      console.error('Error fetching tags:', error);
+    }
+  };
+
   const handleDeletePost = async (postId) => {
     try {
       setDeleteLoading(postId);
@@ -70,16 +88,12 @@ const Profile = () => {
     });
   };
 
-  const truncateContent = (content, maxLength = 150) => {
-    if (!content) return '';
-    
+  const plainText = (html) => {
+    if (!html) return '';
+
     const tempDiv = document.createElement('div');
-    tempDiv.innerHTML = content;
-    const textContent = tempDiv.textContent || tempDiv.innerText || '';
-    
-    return textContent.length > maxLength 
-      ? textContent.substring(0, maxLength) + '...'
-      : textContent;
+    tempDiv.innerHTML = html;
+    return tempDiv.textContent || tempDiv.innerText || '';
   };
 
   if (loading) {
@@ -180,27 +194,37 @@ const Profile = () => {
                     </Link>
                   </h3>
 
-                  {post.content && (
+                  {post.excerpt && (
                     <p className="text-gray-600 dark:text-gray-300 mb-4">
-                      {truncateContent(post.content)}
+                      {plainText(post.excerpt)}
                     </p>
                   )}
 
-                  {post.tags && post.tags.length > 0 && (
+                  {post.tagIds && post.tagIds.length > 0 && (
                     <div className="flex flex-wrap gap-2">
-                      {post.tags.map((tag, index) => (
+                      {post.tagIds.filter(tagId => tagNames[tagId]).map(tagId => (
                         <span
-                          key={index}
+                          key={tagId}
                           className="inline-flex items-center px-2 py-1 rounded-full text-xs font-medium bg-gray-100 dark:bg-gray-700 text-gray-800 dark:text-gray-200"
                         >
                           <Tag className="h-3 w-3 mr-1" />
-                          {tag.name}
+                          {tagNames[tagId]}
                         </span>
                       ))}
                     </div>
                   )}
                 </div>
               ))}
+              {postsCursor && (
+                <div className="text-center">
+                  <button
+                    onClick={() => fetchUserPosts(postsCursor)}
+                    className="px-4 py-2 text-sm font-medium text-primary-600 dark:text-primary-400 hover:text-primary-700 dark:hover:text-primary-300"
+                  >
+                    {t('common.loadMore')}
+                  </button>
+                </div>
+              )}
             </div>
           )}
         </div>
@@ -1,7 +1,8 @@
-import React, { useState } from 'react';
+import React, { useEffect, useState } from 'react';
 import { Link, useNavigate } from 'react-router-dom';
 import { useTranslation } from 'react-i18next';
 import { useAuth } from '../contexts/AuthContext';
+import { usersAPI } from '../services/api';
 import { UserPlus, Eye, EyeOff, Mail, Lock, User } from 'lucide-react';
 
 const Register = () => {
@@ -19,6 +20,31 @@ const Register = () => {
   const { register, loading } = useAuth();
   const navigate = useNavigate();
 
+  // Check availability while the user types, once they pause
+  useEffect(() => {
+    const username = formData.username.trim();
+    const email = formData.email.trim();
+    if (username.length < 3 && !/\S+@\S+\.\S+/.test(email)) return undefined;
+
+    const timer = setTimeout(async () => {
+      try {
+        const params = {};
+        if (username.length >= 3) params.username = username;
+        if (/\S+@\S+\.\S+/.test(email)) params.email = email;
+        const response = await usersAPI.checkAvailability(params);
+        const { usernameAvailable, emailAvailable } = response.data;
+        setErrors(prev => ({
+          ...prev,
+          ...(usernameAvailable === false && { username: t('validation.usernameTaken') }),
+          ...(emailAvailable === false && { email: t('validation.emailTaken') }),
+        }));
+      } catch (error) {
+        // The check is only a hint; registration still validates
+      }
+    }, 300);
+    return () => clearTimeout(timer);
+  }, [formData.username, formData.email, t]);
+
   const handleChange = (e) => {
     const { name, value } = e.target;
     setFormData(prev => ({
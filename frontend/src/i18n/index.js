@@ -7,10 +7,19 @@ import { localizationAPI } from '../services/api';
 import tr from './locales/tr.json';
 import en from './locales/en.json';
 
-// Dynamic resource loader
+let bundleVersions;
+
+// Dynamic resource loader. Versioned bundle URLs are cached by the browser
+// for good, so only the small version map is fetched on every page load.
 const loadResources = async (language) => {
   try {
-    const response = await localizationAPI.getMessages(language);
+    if (!bundleVersions) {
+      bundleVersions = (await localizationAPI.getBundleVersions()).data;
+    }
+    const version = bundleVersions[language];
+    const response = version
+      ? await localizationAPI.getBundle(language, version)
+      : await localizationAPI.getMessages(language);
     return response.data;
   } catch (error) {
     console.warn(`Failed to load ${language} translations from database, using fallback`);
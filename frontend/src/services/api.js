@@ -51,17 +51,22 @@ export const postsAPI = {
     }
     return api.get(`/posts?${params.toString()}`);
   },
+  getPostsAfter: (cursor = '', size = 10) => {
+    const params = new URLSearchParams({ after: cursor || '', size: size.toString() });
+    return api.get(`/posts?${params.toString()}`);
+  },
   getPostById: (id) => api.get(`/posts/${id}`),
   createPost: (postData) => api.post('/posts', postData),
   updatePost: (id, postData) => api.put(`/posts/${id}`, postData),
   deletePost: (id) => api.delete(`/posts/${id}`),
-  getPostsByUser: (userId) => api.get(`/posts/user/${userId}`),
+  getPostsByUser: (userId, params) => api.get(`/posts/user/${userId}`, { params }),
 };
 
 // Tags API
 export const tagsAPI = {
   getAllTags: () => api.get('/tags'),
   getTagById: (id) => api.get(`/tags/${id}`),
+  suggestTags: (prefix, limit = 10) => api.get('/tags/suggest', { params: { prefix, limit } }),
   createTag: (tagData) => api.post('/tags', tagData),
   updateTag: (id, tagData) => api.put(`/tags/${id}`, tagData),
   deleteTag: (id) => api.delete(`/tags/${id}`),
@@ -71,17 +76,28 @@ export const tagsAPI = {
 export const usersAPI = {
   getProfile: () => api.get('/users/profile'),
   updateProfile: (userData) => api.put('/users/profile', userData),
-  getAllUsers: () => api.get('/users'),
+  getUsers: (params) => api.get('/users', { params }),
+  exportUsers: (params) => api.get('/users', {
+    params,
+    headers: { Accept: 'application/x-ndjson' },
+    responseType: 'blob',
+  }),
+  checkAvailability: (params) => api.get('/users/availability', { params }),
   getUserById: (id) => api.get(`/users/${id}`),
+  updateUserRole: (id, role) => api.put(`/users/${id}/role`, { role }),
 };
 
 // Localization API
 export const localizationAPI = {
   getMessages: (locale) => api.get(`/localization/messages/${locale}`),
+  getBundleVersions: () => api.get('/localization/bundles'),
+  getBundle: (locale, version) => api.get(`/localization/bundles/${locale}/${version}`),
   getMessage: (key, locale = 'en') => api.get('/localization/message', { params: { key, locale } }),
   createMessage: (message) => api.post('/localization/messages', message),
   updateMessage: (id, message) => api.put(`/localization/messages/${id}`, message),
   deleteMessage: (id) => api.delete(`/localization/messages/${id}`),
+  importMessages: (locale, messages) => api.post(`/localization/import/${locale}`, messages),
+  exportMessages: (locale) => api.get(`/localization/export/${locale}`),
 };
 
 export default api; 
\ No newline at end of file
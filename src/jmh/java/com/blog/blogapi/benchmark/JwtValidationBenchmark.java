@@ -0,0 +1,78 @@
+package com.blog.blogapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.blog.blogapi.model.Role;
+import com.blog.blogapi.model.User;
+import com.blog.blogapi.security.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Cost of validating one bearer token per request: the former filter path that
+ * built a parser and parsed the token three times, a single parse with the
+ * shared parser, and a repeat request answered from the verified-token cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-that-is-long-enough-for-hs256-signing";
+
+    private JwtUtil uncached;
+    private JwtUtil cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtUtil(SECRET, 0);
+        cached = new JwtUtil(SECRET, 10_000);
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("benchmark");
+        user.setRole(Role.USER);
+        token = uncached.generateToken(user);
+        cached.parseValidClaims(token);
+    }
+
+    @Benchmark
+    public Claims legacyTripleParse() {
+        Claims claims = null;
+        for (int i = 0; i < 3; i++) {
+            claims = Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+        return claims;
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return uncached.parseValidClaims(token);
+    }
+
+    @Benchmark
+    public Claims cachedParse() {
+        return cached.parseValidClaims(token);
+    }
+}
@@ -0,0 +1,85 @@
+package com.blog.blogapi.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.blog.blogapi.invalidation.CacheInvalidator;
+import com.blog.blogapi.model.LocalizationMessage;
+import com.blog.blogapi.repository.LocalizationMessageRepository;
+import com.blog.blogapi.service.LocalizationCatalog;
+import com.blog.blogapi.service.LocalizationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@code LocalizationService.getMessage} answered from the in-memory catalog.
+ * Half of the keys are translated to Turkish and the rest fall back to English.
+ * The repository is a stub that is only read once, when the catalog loads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocalizationLookupBenchmark {
+
+    private static final int KEY_COUNT = 200;
+
+    private AnnotationConfigApplicationContext context;
+    private LocalizationService localizationService;
+    private String[] keys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new String[KEY_COUNT];
+        List<LocalizationMessage> messages = new ArrayList<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "benchmark.key." + i;
+            messages.add(new LocalizationMessage(keys[i], "en", "value " + i));
+            if (i % 2 == 0) {
+                messages.add(new LocalizationMessage(keys[i], "tr", "değer " + i));
+            }
+        }
+        LocalizationMessageRepository repository = mock(LocalizationMessageRepository.class);
+        when(repository.findAll()).thenReturn(messages);
+
+        context = new AnnotationConfigApplicationContext();
+        context.register(LocalizationCatalog.class, LocalizationService.class);
+        context.registerBean(LocalizationMessageRepository.class, () -> repository);
+        context.registerBean(ObjectMapper.class, ObjectMapper::new);
+        context.registerBean(CacheInvalidator.class, () -> mock(CacheInvalidator.class));
+        context.refresh();
+        localizationService = context.getBean(LocalizationService.class);
+        localizationService.getMessage(keys[0], "tr");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String getMessageWithFallback() {
+        String key = keys[next];
+        next = next + 1 == KEY_COUNT ? 0 : next + 1;
+        return localizationService.getMessage(key, "tr");
+    }
+}
@@ -0,0 +1,77 @@
+package com.blog.blogapi.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.blog.blogapi.dto.PostResponse;
+import com.blog.blogapi.dto.TagResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Jackson serialization of a {@code Page<PostResponse>} as returned by
+ * {@code GET /api/posts}, using an ObjectMapper configured like Boot's.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({ "10", "50" })
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private Page<PostResponse> page;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        List<PostResponse> posts = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            PostResponse post = new PostResponse();
+            post.setId((long) i);
+            post.setTitle("Benchmark post " + i);
+            post.setContent("Some content for the serialization benchmark ".repeat(20));
+            post.setAuthorId(1L);
+            post.setAuthorUsername("benchmark");
+            post.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(i));
+            List<TagResponse> tags = new ArrayList<>();
+            for (int t = 0; t < 5; t++) {
+                TagResponse tag = new TagResponse();
+                tag.setId((long) t);
+                tag.setName("tag-" + t);
+                tags.add(tag);
+            }
+            post.setTags(tags);
+            posts.add(post);
+        }
+        page = new PageImpl<>(posts, PageRequest.of(0, pageSize), 1_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,77 @@
+package com.blog.blogapi.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.blog.blogapi.dto.PostResponse;
+import com.blog.blogapi.model.Post;
+import com.blog.blogapi.model.Role;
+import com.blog.blogapi.model.Tag;
+import com.blog.blogapi.model.User;
+import com.blog.blogapi.service.PostResponseMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of mapping one post with its author and tags to a {@link PostResponse},
+ * including the {@code post.response.mapping} timer around it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostMappingBenchmark {
+
+    @Param({ "0", "5", "50" })
+    private int tagCount;
+
+    private PostResponseMapper mapper;
+    private Post post;
+
+    @Setup
+    public void setUp() {
+        mapper = new PostResponseMapper(new SimpleMeterRegistry());
+
+        User author = new User();
+        author.setId(1L);
+        author.setUsername("benchmark");
+        author.setRole(Role.USER);
+
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            Tag tag = new Tag();
+            tag.setId((long) i);
+            tag.setName("tag-" + i);
+            tags.add(tag);
+        }
+
+        post = new Post();
+        post.setId(42L);
+        post.setTitle("Benchmark post");
+        post.setContent("Some content for the mapping benchmark ".repeat(20));
+        post.setAuthor(author);
+        post.setTags(tags);
+        post.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    @Benchmark
+    public PostResponse toPostResponse() {
+        return mapper.toPostResponse(post);
+    }
+}
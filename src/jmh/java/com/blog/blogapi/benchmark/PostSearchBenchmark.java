@@ -0,0 +1,103 @@
+package com.blog.blogapi.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.blog.blogapi.search.PostSearchIndex;
+import com.blog.blogapi.search.SnippetBuilder;
+
+/**
+ * Search over a synthetic corpus whose word frequencies follow a Zipf-like
+ * distribution, so common terms have long posting lists and rare ones short.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostSearchBenchmark {
+
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final int TITLE_WORDS = 8;
+    private static final int CONTENT_WORDS = 300;
+
+    @Param({ "10000" })
+    private int documentCount;
+
+    private PostSearchIndex index;
+    private String[] vocabulary;
+    private String sampleContent;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vocabulary = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            vocabulary[i] = "word" + Integer.toString(i, 36) + (char) ('a' + i % 26);
+        }
+
+        index = new PostSearchIndex();
+        for (long id = 1; id <= documentCount; id++) {
+            String title = words(random, TITLE_WORDS);
+            String content = words(random, CONTENT_WORDS);
+            index.index(id, title, content);
+            if (id == 1) {
+                sampleContent = content;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Long> commonTerm() {
+        return index.search(vocabulary[0]);
+    }
+
+    @Benchmark
+    public List<Long> rareTerm() {
+        return index.search(vocabulary[VOCABULARY_SIZE - 1]);
+    }
+
+    @Benchmark
+    public List<Long> twoTerms() {
+        return index.search(vocabulary[3] + " " + vocabulary[40]);
+    }
+
+    @Benchmark
+    public List<Long> prefix() {
+        return index.search(vocabulary[1] + " " + vocabulary[25].substring(0, 5));
+    }
+
+    @Benchmark
+    public String snippet() {
+        return SnippetBuilder.build(sampleContent, vocabulary[0] + " " + vocabulary[1]);
+    }
+
+    /**
+     * Draws words with probability roughly proportional to 1/rank.
+     */
+    private String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = (int) Math.floor(Math.pow(VOCABULARY_SIZE, random.nextDouble())) - 1;
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(vocabulary[rank]);
+        }
+        return text.toString();
+    }
+}
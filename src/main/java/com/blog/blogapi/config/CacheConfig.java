@@ -0,0 +1,42 @@
+package com.blog.blogapi.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String POSTS = "posts";
+
+    @Value("${cache.posts.maximum-size:10000}")
+    private long postsMaximumSize;
+
+    @Value("${cache.posts.ttl-seconds:600}")
+    private long postsTtlSeconds;
+
+    /**
+     * Caffeine caches with statistics so hits, misses and evictions show up
+     * under the {@code cache.*} metrics. Puts and evictions issued inside a
+     * transaction are applied only after it commits.
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(POSTS, Caffeine.newBuilder()
+                .maximumSize(postsMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(postsTtlSeconds))
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
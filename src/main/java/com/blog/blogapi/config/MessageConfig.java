@@ -1,8 +1,5 @@
 package com.blog.blogapi.config;
 
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,7 +9,6 @@ import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 
 @Configuration
-@EnableCaching
 public class MessageConfig {
 
     @Bean
@@ -39,9 +35,4 @@ public class MessageConfig {
         localeResolver.setDefaultLocale(java.util.Locale.forLanguageTag("tr"));
         return localeResolver;
     }
-
-    @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("localization", "localization-all");
-    }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import com.blog.blogapi.dto.UserResponse;
 import com.blog.blogapi.service.AuthService;
 import com.blog.blogapi.service.UserService;
 
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,6 +21,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
+@Timed(value = "blog.controller", histogram = true)
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 @Tag(name = "Authentication", description = "APIs for user authentication")
@@ -1,10 +1,16 @@
 package com.blog.blogapi.controller;
 
-import java.util.List;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,14 +19,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.blog.blogapi.dto.LocalizationImportResult;
 import com.blog.blogapi.model.LocalizationMessage;
+import com.blog.blogapi.service.LocalizationCatalog;
 import com.blog.blogapi.service.LocalizationService;
 
+import io.micrometer.core.annotation.Timed;
+
 @RestController
+@Timed(value = "blog.controller", histogram = true)
 @RequestMapping("/api/localization")
 public class LocalizationController {
 
@@ -31,16 +45,41 @@ public class LocalizationController {
         this.localizationService = localizationService;
     }
 
-    @GetMapping("/messages/{locale}")
-    public ResponseEntity<Map<String, String>> getMessages(@PathVariable String locale) {
-        List<LocalizationMessage> messages = localizationService.getAllMessages(locale);
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    @GetMapping(value = "/messages/{locale}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getMessages(@PathVariable String locale,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return bundleResponse(localizationService.getBundle(locale), acceptEncoding, REVALIDATE);
+    }
 
-        Map<String, String> messageMap = messages.stream()
-                .collect(Collectors.toMap(
-                        LocalizationMessage::getKey,
-                        LocalizationMessage::getValue));
+    @GetMapping("/bundles")
+    public ResponseEntity<Map<String, String>> getBundleVersions() {
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(localizationService.getBundleVersions());
+    }
 
-        return ResponseEntity.ok(messageMap);
+    /**
+     * A bundle under its content version, cacheable forever. An outdated
+     * version redirects to the current one.
+     */
+    @GetMapping(value = "/bundles/{locale}/{version}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getBundle(@PathVariable String locale, @PathVariable String version,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        LocalizationCatalog.Bundle bundle = localizationService.getBundle(locale);
+        if (!bundle.version().equals(version)) {
+            URI current = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path("/api/localization/bundles/{locale}/{version}")
+                    .buildAndExpand(locale, bundle.version())
+                    .toUri();
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(current)
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+        return bundleResponse(bundle, acceptEncoding, IMMUTABLE);
     }
 
     @GetMapping("/message")
@@ -59,6 +98,27 @@ public class LocalizationController {
         return ResponseEntity.ok(savedMessage);
     }
 
+    /**
+     * Upserts a whole locale from a JSON object shaped like the frontend's
+     * locale files. The body is parsed as it arrives.
+     */
+    @PostMapping(value = "/import/{locale}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<LocalizationImportResult> importMessages(@PathVariable String locale, InputStream body) {
+        LocalizationImportResult result = localizationService.importMessages(locale, body);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/export/{locale}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportMessages(@PathVariable String locale) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(locale + ".json").build().toString())
+                .body(out -> localizationService.exportMessages(locale, out));
+    }
+
     @PutMapping("/messages/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<LocalizationMessage> updateMessage(
@@ -76,4 +136,24 @@ public class LocalizationController {
         localizationService.deleteMessage(id);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * Sends the pre-built bytes, gzipped when the client accepts it. Spring
+     * answers 304 by itself when {@code If-None-Match} matches the ETag.
+     */
+    private static ResponseEntity<byte[]> bundleResponse(LocalizationCatalog.Bundle bundle, String acceptEncoding,
+            CacheControl cacheControl) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.eTag("\"" + bundle.version() + "-gzip\"")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(bundle.gzipped());
+        }
+        return response.eTag("\"" + bundle.version() + "\"")
+                .body(bundle.json());
+    }
 }
\ No newline at end of file
@@ -18,10 +18,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.blog.blogapi.dto.CursorPage;
 import com.blog.blogapi.dto.PostRequest;
 import com.blog.blogapi.dto.PostResponse;
+import com.blog.blogapi.dto.PostSummary;
 import com.blog.blogapi.service.PostService;
 
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -29,6 +32,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
 @RestController
+@Timed(value = "blog.controller", histogram = true)
 @RequestMapping("/api/posts")
 @Tag(name = "Post Management", description = "APIs for managing blog posts")
 public class PostController {
@@ -74,6 +78,26 @@ public class PostController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(summary = "Get posts by tags", description = "Retrieves posts carrying all or any of the given tag IDs, newest first")
+    @GetMapping(params = { "tags", "!search", "!after" })
+    public ResponseEntity<Page<PostResponse>> getPostsByTags(
+            @Parameter(description = "Comma-separated tag IDs", required = true) @RequestParam List<Long> tags,
+            @Parameter(description = "'all' to require every tag, 'any' for at least one") @RequestParam(defaultValue = "all") String match,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Page<PostResponse> responses = postService.getPostsByTags(tags, match, page, size);
+        return ResponseEntity.ok(responses);
+    }
+
+    @Operation(summary = "Get posts by cursor", description = "Retrieves posts after the given cursor without counting the table. Pass an empty 'after' for the first page.")
+    @GetMapping(params = { "after", "!search" })
+    public ResponseEntity<CursorPage<PostResponse>> getPostsAfter(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPage<PostResponse> responses = postService.getPostsAfter(after, size);
+        return ResponseEntity.ok(responses);
+    }
+
     @Operation(summary = "Update post", description = "Updates an existing post with new details")
     @SecurityRequirement(name = "bearerAuth")
     @PutMapping("/{id}")
@@ -95,11 +119,13 @@ public class PostController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Get posts by user", description = "Retrieves all posts by a specific user")
+    @Operation(summary = "Get posts by user", description = "Retrieves summaries of a user's posts, newest first, by cursor. Pass an empty 'after' for the first page.")
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<PostResponse>> getPostsByUser(
-            @Parameter(description = "User ID", required = true) @PathVariable Long userId) {
-        List<PostResponse> responses = postService.getPostsByUser(userId);
+    public ResponseEntity<CursorPage<PostSummary>> getPostsByUser(
+            @Parameter(description = "User ID", required = true) @PathVariable Long userId,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPage<PostSummary> responses = postService.getPostsByUser(userId, after, size);
         return ResponseEntity.ok(responses);
     }
 }
\ No newline at end of file
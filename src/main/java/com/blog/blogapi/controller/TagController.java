@@ -2,6 +2,7 @@ package com.blog.blogapi.controller;
 
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,24 +12,40 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.blog.blogapi.dto.TagBulkDeleteRequest;
+import com.blog.blogapi.dto.TagBulkRenameRequest;
+import com.blog.blogapi.dto.TagBulkResult;
+import com.blog.blogapi.dto.TagMergeRequest;
 import com.blog.blogapi.dto.TagRequest;
 import com.blog.blogapi.dto.TagResponse;
+import com.blog.blogapi.service.TagBulkService;
 import com.blog.blogapi.service.TagService;
 
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 @RestController
+@Timed(value = "blog.controller", histogram = true)
 @RequestMapping("/api/tags")
 @Tag(name = "Tag Management", description = "APIs for managing tags")
 public class TagController {
 
     private final TagService tagService;
+    private final TagBulkService tagBulkService;
 
-    public TagController(TagService tagService) {
+    public TagController(TagService tagService, TagBulkService tagBulkService) {
         this.tagService = tagService;
+        this.tagBulkService = tagBulkService;
     }
 
     @Operation(summary = "Create a new tag", description = "Creates a new tag with the provided name")
@@ -40,16 +57,46 @@ public class TagController {
     }
 
     @Operation(summary = "Get tag by ID", description = "Retrieves tag details by its ID")
-    @GetMapping("/{id}")
-    public ResponseEntity<TagResponse> getTagById(@PathVariable Long id) {
-        TagResponse response = tagService.getTagById(id);
-        return ResponseEntity.ok(response);
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = TagResponse.class)))
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getTagById(@PathVariable Long id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(tagService.getTagJson(id));
     }
 
     @Operation(summary = "Get all tags", description = "Retrieves a list of all tags")
-    @GetMapping
-    public ResponseEntity<List<TagResponse>> getAllTags() {
-        List<TagResponse> responses = tagService.getAllTags();
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = TagResponse.class))))
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllTags() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(tagService.getAllTagsJson());
+    }
+
+    @Operation(summary = "Get all tags with post counts", description = "Retrieves all tags with the number of posts using each")
+    @GetMapping(params = "withCounts=true")
+    public ResponseEntity<List<TagResponse>> getAllTagsWithCounts() {
+        List<TagResponse> responses = tagService.getAllTagsWithCounts();
+        return ResponseEntity.ok(responses);
+    }
+
+    @Operation(summary = "Get tag cloud", description = "Retrieves the most used tags with their post counts, most used first")
+    @GetMapping("/cloud")
+    public ResponseEntity<List<TagResponse>> getTagCloud(
+            @Parameter(description = "Maximum number of tags, up to 200") @RequestParam(defaultValue = "30") int limit) {
+        List<TagResponse> responses = tagService.getTagCloud(limit);
+        return ResponseEntity.ok(responses);
+    }
+
+    @Operation(summary = "Suggest tags", description = "Retrieves tags whose name starts with the prefix, most used first")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TagResponse>> suggestTags(
+            @Parameter(description = "Beginning of the tag name, case-insensitive") @RequestParam String prefix,
+            @Parameter(description = "Maximum number of tags, up to 50") @RequestParam(defaultValue = "10") int limit) {
+        List<TagResponse> responses = tagService.suggestTags(prefix, limit);
         return ResponseEntity.ok(responses);
     }
 
@@ -61,6 +108,30 @@ public class TagController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Merge tags", description = "Moves all posts of the source tags onto the target tag and deletes the source tags")
+    @PostMapping("/merge")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TagBulkResult> mergeTags(@Valid @RequestBody TagMergeRequest request) {
+        TagBulkResult result = tagBulkService.mergeTags(request.getSourceIds(), request.getTargetId());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Rename tags", description = "Renames several tags at once")
+    @PutMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TagBulkResult> renameTags(@Valid @RequestBody TagBulkRenameRequest request) {
+        TagBulkResult result = tagBulkService.renameTags(request.getTags());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Delete tags", description = "Removes several tags from all their posts and deletes them")
+    @PostMapping("/bulk-delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TagBulkResult> deleteTags(@Valid @RequestBody TagBulkDeleteRequest request) {
+        TagBulkResult result = tagBulkService.deleteTags(request.getIds());
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "Delete tag", description = "Deletes a tag by its ID")
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -1,28 +1,36 @@
 package com.blog.blogapi.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.blog.blogapi.dto.CursorPage;
+import com.blog.blogapi.dto.RoleUpdateRequest;
+import com.blog.blogapi.dto.UserAvailabilityResponse;
 import com.blog.blogapi.dto.UserRegistrationRequest;
 import com.blog.blogapi.dto.UserResponse;
 import com.blog.blogapi.service.UserService;
 
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 @RestController
+@Timed(value = "blog.controller", histogram = true)
 @RequestMapping("/api/users")
 @Tag(name = "User Management", description = "APIs for managing users")
 public class UserController {
@@ -40,6 +48,15 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(userService.registerUser(request));
     }
 
+    @Operation(summary = "Check username and email availability",
+            description = "Tells whether a username and email are still free, for checks while the user types")
+    @GetMapping("/availability")
+    public ResponseEntity<UserAvailabilityResponse> checkAvailability(
+            @Parameter(description = "Username to check") @RequestParam(required = false) String username,
+            @Parameter(description = "Email to check") @RequestParam(required = false) String email) {
+        return ResponseEntity.ok(userService.checkAvailability(username, email));
+    }
+
     @Operation(summary = "Get user by ID", description = "Retrieves user details by their ID")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/{id}")
@@ -50,12 +67,39 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get all users", description = "Retrieves a list of all users")
+    @Operation(summary = "Get users by cursor", description = "Retrieves users newest first, one keyset page at a time, optionally filtered by role and username prefix. Pass an empty 'after' for the first page.")
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> responses = userService.getAllUsers();
+    public ResponseEntity<CursorPage<UserResponse>> getUsers(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Only users with this role") @RequestParam(required = false) String role,
+            @Parameter(description = "Only usernames starting with this") @RequestParam(required = false) String username) {
+        CursorPage<UserResponse> responses = userService.getUsers(role, username, after, size);
         return ResponseEntity.ok(responses);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Export users", description = "Streams every matching user as newline-delimited JSON")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @Parameter(description = "Only users with this role") @RequestParam(required = false) String role,
+            @Parameter(description = "Only usernames starting with this") @RequestParam(required = false) String username) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> userService.exportUsers(role, username, out));
+    }
+
+    @Operation(summary = "Change user role", description = "Changes a user's role and revokes their issued tokens")
+    @SecurityRequirement(name = "bearerAuth")
+    @PutMapping("/{id}/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserResponse> updateUserRole(
+            @Parameter(description = "User ID", required = true) @PathVariable Long id,
+            @Valid @RequestBody RoleUpdateRequest request) {
+        UserResponse response = userService.updateUserRole(id, request);
+        return ResponseEntity.ok(response);
+    }
+}
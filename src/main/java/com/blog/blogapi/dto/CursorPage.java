@@ -0,0 +1,14 @@
+package com.blog.blogapi.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
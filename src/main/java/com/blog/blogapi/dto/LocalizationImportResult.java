@@ -0,0 +1,10 @@
+package com.blog.blogapi.dto;
+
+import lombok.Data;
+
+@Data
+public class LocalizationImportResult {
+
+    private String locale;
+    private int messages;
+}
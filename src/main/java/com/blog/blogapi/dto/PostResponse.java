@@ -3,6 +3,8 @@ package com.blog.blogapi.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Data;
 
 @Data
@@ -15,4 +17,7 @@ public class PostResponse {
     private String authorUsername;
     private List<TagResponse> tags;
     private LocalDateTime createdAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String snippet;
 }
\ No newline at end of file
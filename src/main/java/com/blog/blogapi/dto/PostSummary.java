@@ -0,0 +1,16 @@
+package com.blog.blogapi.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class PostSummary {
+
+    private Long id;
+    private String title;
+    private String excerpt;
+    private LocalDateTime createdAt;
+    private List<Long> tagIds;
+}
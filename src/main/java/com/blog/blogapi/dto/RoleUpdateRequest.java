@@ -0,0 +1,11 @@
+package com.blog.blogapi.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RoleUpdateRequest {
+
+    @NotBlank
+    private String role;
+}
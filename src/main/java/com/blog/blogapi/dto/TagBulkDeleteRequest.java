@@ -0,0 +1,15 @@
+package com.blog.blogapi.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class TagBulkDeleteRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<Long> ids;
+}
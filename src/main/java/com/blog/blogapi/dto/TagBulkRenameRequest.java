@@ -0,0 +1,29 @@
+package com.blog.blogapi.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class TagBulkRenameRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid Rename> tags;
+
+    @Data
+    public static class Rename {
+
+        @NotNull
+        private Long id;
+
+        @NotBlank(message = "{validation.tagname.notblank}")
+        @Size(max = 50, message = "{validation.tagname.size}")
+        private String name;
+    }
+}
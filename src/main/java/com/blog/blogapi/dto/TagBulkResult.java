@@ -0,0 +1,14 @@
+package com.blog.blogapi.dto;
+
+import lombok.Data;
+
+/**
+ * Outcome of a bulk tag operation.
+ */
+@Data
+public class TagBulkResult {
+
+    private int tags;
+    private long posts;
+    private int batches;
+}
@@ -0,0 +1,19 @@
+package com.blog.blogapi.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class TagMergeRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<Long> sourceIds;
+
+    @NotNull
+    private Long targetId;
+}
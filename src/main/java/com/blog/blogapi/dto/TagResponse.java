@@ -1,5 +1,7 @@
 package com.blog.blogapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Data;
 
 @Data
@@ -7,4 +9,7 @@ public class TagResponse {
 
     private Long id;
     private String name;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer postCount;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.blog.blogapi.dto;
+
+import lombok.Data;
+
+/**
+ * Whether a username and email are still free. A field is null when it was
+ * not asked about.
+ */
+@Data
+public class UserAvailabilityResponse {
+
+    private Boolean usernameAvailable;
+    private Boolean emailAvailable;
+}
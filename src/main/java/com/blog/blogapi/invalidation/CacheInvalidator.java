@@ -0,0 +1,185 @@
+package com.blog.blogapi.invalidation;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.blog.blogapi.config.CacheConfig;
+import com.blog.blogapi.model.Tag;
+import com.blog.blogapi.repository.PostRepository;
+import com.blog.blogapi.search.PostSearchIndex;
+import com.blog.blogapi.search.PostSearchIndexLoader;
+import com.blog.blogapi.search.PostTagIndex;
+import com.blog.blogapi.search.PostTagIndexLoader;
+import com.blog.blogapi.security.TokenVersionRegistry;
+import com.blog.blogapi.service.LocalizationCatalog;
+import com.blog.blogapi.service.TagCatalog;
+import com.blog.blogapi.service.UserAvailabilityIndex;
+
+/**
+ * Keeps the in-memory state of this node in step with writes made on other
+ * nodes. Writers update their own node directly and then {@link #publish}
+ * what changed; every other node evicts or reloads only the affected entries.
+ */
+@Component
+public class CacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidator.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final InvalidationBus bus;
+    private final CacheManager cacheManager;
+    private final LocalizationCatalog localizationCatalog;
+    private final TagCatalog tagCatalog;
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTagIndex postTagIndex;
+    private final PostSearchIndexLoader postSearchIndexLoader;
+    private final PostTagIndexLoader postTagIndexLoader;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CacheInvalidator(InvalidationBus bus, CacheManager cacheManager, LocalizationCatalog localizationCatalog,
+            TagCatalog tagCatalog, PostRepository postRepository, PostSearchIndex postSearchIndex,
+            PostTagIndex postTagIndex, PostSearchIndexLoader postSearchIndexLoader,
+            PostTagIndexLoader postTagIndexLoader, UserAvailabilityIndex userAvailabilityIndex,
+            TokenVersionRegistry tokenVersionRegistry, PlatformTransactionManager transactionManager) {
+        this.bus = bus;
+        this.cacheManager = cacheManager;
+        this.localizationCatalog = localizationCatalog;
+        this.tagCatalog = tagCatalog;
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.postTagIndex = postTagIndex;
+        this.postSearchIndexLoader = postSearchIndexLoader;
+        this.postTagIndexLoader = postTagIndexLoader;
+        this.userAvailabilityIndex = userAvailabilityIndex;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        bus.subscribe(this::onEvent);
+    }
+
+    /**
+     * Tells the other nodes that an entry changed. Call after the write has
+     * committed, so they reload the new state.
+     *
+     * @param cache one of the {@link InvalidationEvent} cache names
+     * @param key   the changed entry, or null for the whole cache
+     */
+    public void publish(String cache, Object key) {
+        bus.publish(new InvalidationEvent(nodeId, cache, key != null ? key.toString() : null));
+    }
+
+    void onEvent(InvalidationEvent event) {
+        if (nodeId.equals(event.origin())) {
+            return;
+        }
+        logger.debug("Applying cache invalidation {}", event);
+        switch (event.cache()) {
+            case InvalidationEvent.LOCALIZATION -> refreshLocalization(event.key());
+            case InvalidationEvent.TAGS -> {
+                if (event.key() != null) {
+                    refreshTag(Long.valueOf(event.key()));
+                } else {
+                    refreshAllTags();
+                }
+            }
+            case InvalidationEvent.POSTS -> {
+                if (event.key() != null) {
+                    refreshPost(Long.valueOf(event.key()));
+                } else {
+                    refreshAllPosts();
+                }
+            }
+            case InvalidationEvent.USERS -> {
+                if (event.key() != null) {
+                    userAvailabilityIndex.refresh(Long.valueOf(event.key()));
+                } else {
+                    userAvailabilityIndex.reload();
+                }
+            }
+            case InvalidationEvent.TOKEN_VERSIONS -> {
+                if (event.key() != null) {
+                    tokenVersionRegistry.evict(Long.valueOf(event.key()));
+                } else {
+                    tokenVersionRegistry.evictAll();
+                }
+            }
+            default -> logger.warn("Ignoring invalidation of unknown cache {}", event.cache());
+        }
+    }
+
+    /**
+     * Patches the one message or locale named by the key, see
+     * {@link InvalidationEvent#localizationKey}.
+     */
+    private void refreshLocalization(String key) {
+        if (key == null) {
+            localizationCatalog.reload();
+            return;
+        }
+        int separator = key.indexOf(InvalidationEvent.SEPARATOR);
+        if (separator < 0) {
+            localizationCatalog.reloadLocale(key);
+        } else {
+            localizationCatalog.refresh(key.substring(0, separator), key.substring(separator + 1));
+        }
+    }
+
+    /**
+     * A renamed or deleted tag changes the cached posts carrying it, so they
+     * are cleared like on the writing node; a deleted one also leaves the tag
+     * index.
+     */
+    private void refreshTag(Long tagId) {
+        if (tagCatalog.refresh(tagId).nameOf(tagId).isEmpty()) {
+            postTagIndex.removeTag(tagId);
+        }
+        clearPosts();
+    }
+
+    private void refreshAllTags() {
+        tagCatalog.reload();
+        postTagIndexLoader.rebuild();
+        clearPosts();
+    }
+
+    private void refreshPost(Long postId) {
+        Cache posts = cacheManager.getCache(CacheConfig.POSTS);
+        if (posts != null) {
+            posts.evict(postId);
+        }
+        readOnlyTransaction.executeWithoutResult(status -> postRepository.findById(postId).ifPresentOrElse(
+                post -> {
+                    List<Long> tagIds = post.getTags().stream().map(Tag::getId).toList();
+                    postSearchIndex.index(postId, post.getTitle(), post.getContent());
+                    postTagIndex.index(postId, tagIds);
+                },
+                () -> {
+                    postSearchIndex.remove(postId);
+                    postTagIndex.remove(postId);
+                }));
+    }
+
+    private void refreshAllPosts() {
+        clearPosts();
+        postSearchIndexLoader.rebuild();
+        postTagIndexLoader.rebuild();
+    }
+
+    private void clearPosts() {
+        Cache posts = cacheManager.getCache(CacheConfig.POSTS);
+        if (posts != null) {
+            posts.clear();
+        }
+    }
+}
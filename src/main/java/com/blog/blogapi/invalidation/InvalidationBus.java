@@ -0,0 +1,15 @@
+package com.blog.blogapi.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts invalidation events between application nodes. Every subscriber
+ * receives every event, including the ones its own node published, so
+ * receivers filter by {@link InvalidationEvent#origin()}.
+ */
+public interface InvalidationBus {
+
+    void publish(InvalidationEvent event);
+
+    void subscribe(Consumer<InvalidationEvent> subscriber);
+}
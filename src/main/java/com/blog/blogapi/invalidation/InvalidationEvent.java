@@ -0,0 +1,48 @@
+package com.blog.blogapi.invalidation;
+
+/**
+ * Tells other nodes that an entry of an in-memory cache changed. A null key
+ * means the whole cache.
+ *
+ * @param origin node that made the change
+ * @param cache  name of the cache, one of the constants below
+ * @param key    changed entry, or null
+ */
+public record InvalidationEvent(String origin, String cache, String key) {
+
+    public static final String LOCALIZATION = "localization";
+    public static final String TAGS = "tags";
+    public static final String POSTS = "posts";
+    public static final String USERS = "users";
+    public static final String TOKEN_VERSIONS = "token-versions";
+
+    static final char SEPARATOR = '|';
+
+    /**
+     * Key of a {@link #LOCALIZATION} event: the locale, followed by the
+     * message key when only that message changed. Locales never contain the
+     * separator, message keys may.
+     */
+    public static String localizationKey(String locale, String messageKey) {
+        return messageKey != null ? locale + SEPARATOR + messageKey : locale;
+    }
+
+    /**
+     * Wire format: {@code origin|cache|key}, with an empty key for the whole
+     * cache. Node ids and cache names never contain the separator, keys may.
+     */
+    public String encode() {
+        return origin + SEPARATOR + cache + SEPARATOR + (key != null ? key : "");
+    }
+
+    public static InvalidationEvent decode(String payload) {
+        int first = payload.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : payload.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            throw new IllegalArgumentException("Malformed invalidation payload: " + payload);
+        }
+        String key = payload.substring(second + 1);
+        return new InvalidationEvent(payload.substring(0, first), payload.substring(first + 1, second),
+                key.isEmpty() ? null : key);
+    }
+}
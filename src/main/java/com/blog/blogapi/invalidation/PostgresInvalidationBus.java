@@ -0,0 +1,147 @@
+package com.blog.blogapi.invalidation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Broadcasts events through PostgreSQL {@code LISTEN/NOTIFY}, so every node
+ * connected to the same database receives them. One pooled connection per node
+ * is held for listening.
+ * <p>
+ * Notifications sent while the listening connection is down are lost, so
+ * after reconnecting every subscriber is told to drop all of its caches.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "postgres")
+public class PostgresInvalidationBus implements InvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+    private static final String CHANNEL = "blog_cache_invalidation";
+    private static final String RESYNC_ORIGIN = "resync";
+    private static final int POLL_MILLIS = 1_000;
+    private static final long RETRY_MILLIS = 5_000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Consumer<InvalidationEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresInvalidationBus(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, event.encode());
+        } catch (DataAccessException e) {
+            logger.warn("Could not publish cache invalidation {}", event, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().name("cache-invalidation-listener").daemon().start(this::listen);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen() {
+        boolean reconnected = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnected) {
+                    resync();
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            deliver(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Lost the cache invalidation channel, reconnecting in {} ms", RETRY_MILLIS, e);
+                reconnected = true;
+                try {
+                    Thread.sleep(RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void deliver(String payload) {
+        InvalidationEvent event;
+        try {
+            event = InvalidationEvent.decode(payload);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring cache invalidation payload {}", payload);
+            return;
+        }
+        deliver(event);
+    }
+
+    private void deliver(InvalidationEvent event) {
+        for (Consumer<InvalidationEvent> subscriber : subscribers) {
+            try {
+                subscriber.accept(event);
+            } catch (RuntimeException e) {
+                logger.warn("Cache invalidation {} failed", event, e);
+            }
+        }
+    }
+
+    private void resync() {
+        for (String cache : List.of(InvalidationEvent.LOCALIZATION, InvalidationEvent.TAGS, InvalidationEvent.POSTS,
+                InvalidationEvent.USERS, InvalidationEvent.TOKEN_VERSIONS)) {
+            deliver(new InvalidationEvent(RESYNC_ORIGIN, cache, null));
+        }
+    }
+}
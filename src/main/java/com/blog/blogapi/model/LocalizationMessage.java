@@ -6,11 +6,13 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "localization_messages")
+@Table(name = "localization_messages", uniqueConstraints = @UniqueConstraint(name = "uk_localization_key_locale",
+        columnNames = { "message_key", "locale" }))
 public class LocalizationMessage {
 
     @Id
@@ -5,17 +5,23 @@ import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Data
 @Entity
+@Table(indexes = @Index(name = "idx_tag_post_count", columnList = "post_count"))
 public class Tag {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,7 +31,19 @@ public class Tag {
     @Size(max = 50, message = "Tag name cannot be longer than 50 characters")
     private String name;
 
+    /**
+     * Number of posts carrying this tag. Only ever changed by the atomic
+     * updates in {@code TagRepository}, never written from the entity, so a
+     * stale copy cannot overwrite concurrent increments. Read this instead of
+     * counting {@link #posts}, which would load every post.
+     */
+    @Column(name = "post_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "integer default 0")
+    private int postCount;
+
     @ManyToMany(mappedBy = "tags")
     @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Post> posts = new HashSet<>();
 }
\ No newline at end of file
@@ -46,6 +46,14 @@ public class User {
     @Column(nullable = false)
     private Role role = Role.USER;
 
+    /**
+     * Embedded in issued tokens; bumping it invalidates every token the user
+     * holds.
+     */
+    @JsonIgnore
+    @Column(name = "token_version", nullable = false, columnDefinition = "integer default 0")
+    private int tokenVersion;
+
     @JsonIgnore
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
     private Set<Post> posts = new HashSet<>();
@@ -90,6 +98,24 @@ public class User {
         this.role = role;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
+    /**
+     * Changes the role and revokes tokens issued for the previous one.
+     */
+    public void changeRole(Role newRole) {
+        if (this.role != newRole) {
+            this.role = newRole;
+            this.tokenVersion++;
+        }
+    }
+
     public Set<Post> getPosts() {
         return posts;
     }
@@ -0,0 +1,22 @@
+package com.blog.blogapi.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.blog.blogapi.model.AdminClaim;
+
+public interface AdminClaimRepository extends JpaRepository<AdminClaim, Integer> {
+
+    /**
+     * Inserts the claim row. Fails with a primary key violation when it
+     * already exists.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO admin_claim (id, user_id, claimed_at) VALUES (" + AdminClaim.ID
+            + ", :userId, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int claim(@Param("userId") Long userId);
+}
@@ -11,7 +11,8 @@ import org.springframework.stereotype.Repository;
 import com.blog.blogapi.model.LocalizationMessage;
 
 @Repository
-public interface LocalizationMessageRepository extends JpaRepository<LocalizationMessage, Long> {
+public interface LocalizationMessageRepository extends JpaRepository<LocalizationMessage, Long>,
+        LocalizationMessageRepositoryCustom {
 
     Optional<LocalizationMessage> findByKeyAndLocale(String key, String locale);
 
@@ -0,0 +1,12 @@
+package com.blog.blogapi.repository;
+
+import java.util.Map;
+
+public interface LocalizationMessageRepositoryCustom {
+
+    /**
+     * Inserts or updates the messages of a locale, matched on
+     * {@code (message_key, locale)}, in one JDBC batch.
+     */
+    void upsertMessages(String locale, Map<String, String> messages);
+}
@@ -0,0 +1,40 @@
+package com.blog.blogapi.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Plain JDBC for bulk writes: with identity ids Hibernate cannot batch
+ * inserts, and an upsert has no JPA equivalent. {@code MERGE} is understood by
+ * both PostgreSQL and H2, and finds existing rows through the unique
+ * {@code (message_key, locale)} index.
+ */
+class LocalizationMessageRepositoryImpl implements LocalizationMessageRepositoryCustom {
+
+    private static final String UPSERT = "MERGE INTO localization_messages m "
+            + "USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(10)), CAST(? AS VARCHAR))) "
+            + "AS s (message_key, locale, message_value) "
+            + "ON m.message_key = s.message_key AND m.locale = s.locale "
+            + "WHEN MATCHED THEN UPDATE SET message_value = s.message_value "
+            + "WHEN NOT MATCHED THEN INSERT (message_key, locale, message_value) "
+            + "VALUES (s.message_key, s.locale, s.message_value)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    LocalizationMessageRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertMessages(String locale, Map<String, String> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(messages.size());
+        messages.forEach((key, value) -> rows.add(new Object[] { key, locale, value }));
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+    }
+}
@@ -0,0 +1,8 @@
+package com.blog.blogapi.repository;
+
+public interface PostOwnership {
+
+    Long getId();
+
+    Long getAuthorId();
+}
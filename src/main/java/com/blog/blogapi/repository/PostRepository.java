@@ -1,20 +1,97 @@
 package com.blog.blogapi.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.blog.blogapi.model.Post;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    List<Post> findByAuthor_Id(Long authorId);
+    @Override
+    @EntityGraph(attributePaths = "author")
+    Page<Post> findAll(Pageable pageable);
 
-    @Query("SELECT p FROM Post p WHERE " +
-            "LOWER(p.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(p.content) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<Post> searchPosts(@Param("searchTerm") String searchTerm, Pageable pageable);
-}
\ No newline at end of file
+    /**
+     * The author's newest posts with only the first {@code excerptLength}
+     * characters of the content. Both summary queries walk
+     * idx_post_author_created in order and stop at the page limit.
+     */
+    @Query("SELECT p.id AS id, p.title AS title, SUBSTRING(p.content, 1, :excerptLength) AS excerpt, " +
+            "p.createdAt AS createdAt FROM Post p WHERE p.author.id = :authorId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryProjection> findSummariesByAuthor(@Param("authorId") Long authorId,
+            @Param("excerptLength") int excerptLength, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.title AS title, SUBSTRING(p.content, 1, :excerptLength) AS excerpt, " +
+            "p.createdAt AS createdAt FROM Post p WHERE p.author.id = :authorId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryProjection> findSummariesByAuthorBefore(@Param("authorId") Long authorId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            @Param("excerptLength") int excerptLength, Pageable pageable);
+
+    @Query("SELECT p.id AS postId, t.id AS tagId FROM Post p JOIN p.tags t WHERE p.id IN :postIds")
+    List<PostTagLink> findTagLinksByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Post> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    List<Post> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content FROM Post p " +
+            "WHERE p.id > :afterId ORDER BY p.id")
+    List<PostTextProjection> findTextBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p.id AS postId, t.id AS tagId FROM Post p JOIN p.tags t " +
+            "WHERE p.id > :afterPostId OR (p.id = :afterPostId AND t.id > :afterTagId) ORDER BY p.id, t.id")
+    List<PostTagLink> findTagLinkBatch(@Param("afterPostId") Long afterPostId, @Param("afterTagId") Long afterTagId,
+            Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.author.id AS authorId FROM Post p WHERE p.id = :id")
+    Optional<PostOwnership> findOwnershipById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_tags WHERE post_id = :postId", nativeQuery = true)
+    int deleteTagLinksByPostId(@Param("postId") Long postId);
+
+    /**
+     * The lowest post ids still linked to any of the tags. Bulk tag operations
+     * call this repeatedly, removing the returned links each time, so no
+     * cursor is needed.
+     */
+    @Query(value = "SELECT DISTINCT post_id FROM post_tags WHERE tag_id IN (:tagIds) ORDER BY post_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findPostIdsTaggedAny(@Param("tagIds") Collection<Long> tagIds, @Param("limit") int limit);
+
+    /**
+     * Links the posts to the target tag when they carry one of the source tags
+     * and not the target already.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_tags (post_id, tag_id) " +
+            "SELECT DISTINCT pt.post_id, :targetId FROM post_tags pt " +
+            "WHERE pt.post_id IN (:postIds) AND pt.tag_id IN (:sourceIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM post_tags t WHERE t.post_id = pt.post_id AND t.tag_id = :targetId)",
+            nativeQuery = true)
+    int copyTagLinks(@Param("sourceIds") Collection<Long> sourceIds, @Param("targetId") Long targetId,
+            @Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_tags WHERE tag_id IN (:tagIds) AND post_id IN (:postIds)", nativeQuery = true)
+    int deleteTagLinks(@Param("tagIds") Collection<Long> tagIds, @Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id = :id")
+    int deletePostById(@Param("id") Long id);
+}
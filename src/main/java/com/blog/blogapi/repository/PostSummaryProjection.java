@@ -0,0 +1,14 @@
+package com.blog.blogapi.repository;
+
+import java.time.LocalDateTime;
+
+public interface PostSummaryProjection {
+
+    Long getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,8 @@
+package com.blog.blogapi.repository;
+
+public interface PostTagLink {
+
+    Long getPostId();
+
+    Long getTagId();
+}
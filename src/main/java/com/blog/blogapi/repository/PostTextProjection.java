@@ -0,0 +1,10 @@
+package com.blog.blogapi.repository;
+
+public interface PostTextProjection {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+}
@@ -1,8 +1,66 @@
 package com.blog.blogapi.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.blog.blogapi.model.Tag;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
-}
\ No newline at end of file
+
+    List<Tag> findAllByOrderByIdAsc();
+
+    @Query("SELECT t FROM Tag t WHERE t.postCount > 0 ORDER BY t.postCount DESC, t.name")
+    List<Tag> findTagCloud(Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE tag SET post_count = post_count + :delta WHERE id IN (:ids)", nativeQuery = true)
+    int adjustPostCounts(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE tag SET post_count = post_count - 1 " +
+            "WHERE id IN (SELECT pt.tag_id FROM post_tags pt WHERE pt.post_id = :postId)", nativeQuery = true)
+    int decrementPostCountsOfPost(@Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "UPDATE tag SET post_count = (SELECT COUNT(*) FROM post_tags pt WHERE pt.tag_id = tag.id) " +
+            "WHERE id = :id", nativeQuery = true)
+    int recountPostCount(@Param("id") Long id);
+
+    /**
+     * Locks the tag rows until the transaction ends. Inserting a link checks
+     * its tag under a share lock, so new links to these tags wait.
+     */
+    @Query(value = "SELECT id FROM tag WHERE id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Tag t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Sets every linked tag whose counter disagrees with {@code post_tags} to
+     * its real count, from one grouped pass over the links. Returns how many
+     * were repaired. {@code MERGE} rather than {@code UPDATE ... FROM}, which
+     * H2 does not parse.
+     */
+    @Modifying
+    @Query(value = "MERGE INTO tag t " +
+            "USING (SELECT tag_id, COUNT(*) AS n FROM post_tags GROUP BY tag_id) c ON c.tag_id = t.id " +
+            "WHEN MATCHED AND t.post_count <> c.n THEN UPDATE SET post_count = c.n", nativeQuery = true)
+    int reconcileLinkedPostCounts();
+
+    /**
+     * Zeroes the counters of tags that have no links left.
+     */
+    @Modifying
+    @Query(value = "UPDATE tag SET post_count = 0 " +
+            "WHERE post_count <> 0 AND NOT EXISTS (SELECT 1 FROM post_tags pt WHERE pt.tag_id = tag.id)",
+            nativeQuery = true)
+    int zeroUnlinkedPostCounts();
+}
@@ -0,0 +1,10 @@
+package com.blog.blogapi.repository;
+
+public interface UserIdentity {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+}
@@ -0,0 +1,23 @@
+package com.blog.blogapi.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.blog.blogapi.dto.UserResponse;
+import com.blog.blogapi.model.Role;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Up to {@code limit} users with an id below {@code beforeId}, newest
+     * first. Role and username prefix are optional filters.
+     */
+    List<UserResponse> findUserPage(Role role, String usernamePrefix, long beforeId, int limit);
+
+    /**
+     * Hands every matching user to the sink, newest first, reading through a
+     * forward-only cursor so memory stays constant. Call inside a transaction:
+     * PostgreSQL only streams rows with auto-commit off.
+     */
+    void streamUsers(Role role, String usernamePrefix, Consumer<UserResponse> sink);
+}
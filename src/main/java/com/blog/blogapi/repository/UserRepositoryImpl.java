@@ -0,0 +1,82 @@
+package com.blog.blogapi.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.blog.blogapi.dto.UserResponse;
+import com.blog.blogapi.model.Role;
+
+/**
+ * Plain JDBC for the admin user listing: only the columns of
+ * {@link UserResponse} are read, never the password hash, and no entity
+ * enters the persistence context.
+ */
+class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private static final String SELECT = "SELECT id, username, email, role FROM users WHERE id < ?";
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    UserRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<UserResponse> findUserPage(Role role, String usernamePrefix, long beforeId, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = query(role, usernamePrefix, beforeId, args) + " LIMIT ?";
+        args.add(limit);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> toUserResponse(rs), args.toArray());
+    }
+
+    @Override
+    public void streamUsers(Role role, String usernamePrefix, Consumer<UserResponse> sink) {
+        List<Object> args = new ArrayList<>();
+        String sql = query(role, usernamePrefix, Long.MAX_VALUE, args);
+        RowCallbackHandler handler = rs -> sink.accept(toUserResponse(rs));
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+
+    private static String query(Role role, String usernamePrefix, long beforeId, List<Object> args) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        args.add(beforeId);
+        if (role != null) {
+            sql.append(" AND role = ?");
+            args.add(role.name());
+        }
+        if (usernamePrefix != null && !usernamePrefix.isEmpty()) {
+            sql.append(" AND username LIKE ? ESCAPE '\\'");
+            args.add(escapeLike(usernamePrefix) + "%");
+        }
+        return sql.append(" ORDER BY id DESC").toString();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static UserResponse toUserResponse(ResultSet rs) throws SQLException {
+        UserResponse dto = new UserResponse();
+        dto.setId(rs.getLong("id"));
+        dto.setUsername(rs.getString("username"));
+        dto.setEmail(rs.getString("email"));
+        dto.setRole(rs.getString("role"));
+        return dto;
+    }
+}
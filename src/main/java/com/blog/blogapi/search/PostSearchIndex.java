@@ -0,0 +1,299 @@
+package com.blog.blogapi.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory inverted index over post titles and contents. A query only touches
+ * the posting lists of its own terms, so its cost follows the number of matches
+ * rather than the number of posts.
+ * <p>
+ * Hits are ranked with BM25F: term frequencies are length-normalised per field
+ * and the title counts {@link #TITLE_WEIGHT} times as much as the content.
+ * <p>
+ * A full reload fills a {@link Rebuild} next to the live index and swaps it in
+ * at the end, so searches keep seeing every post while it runs.
+ */
+@Component
+public class PostSearchIndex {
+
+    static final int MIN_PREFIX_LENGTH = 3;
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    static final double TITLE_WEIGHT = 3.0;
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile State current = new State();
+    private Rebuild building;
+
+    public void index(Long postId, String title, String content) {
+        Analysis analysis = analyse(title, content);
+
+        lock.writeLock().lock();
+        try {
+            current.put(postId, analysis);
+            if (building != null) {
+                building.touched.add(postId);
+                building.state.put(postId, analysis);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            current.remove(postId);
+            if (building != null) {
+                building.touched.add(postId);
+                building.state.remove(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts an empty index to be filled from the database. Until it is
+     * published, {@link #index} and {@link #remove} also apply to it, and the
+     * posts they touch are skipped by {@link Rebuild#index}, so a batch read
+     * before a newer write cannot overwrite it. Starting another rebuild
+     * abandons this one.
+     */
+    public Rebuild beginRebuild() {
+        Rebuild rebuild = new Rebuild();
+        lock.writeLock().lock();
+        try {
+            building = rebuild;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return rebuild;
+    }
+
+    /**
+     * Returns ids of posts containing every query term, most relevant first and
+     * newest first among equal scores. The last term also matches as a prefix so
+     * partially typed words still find posts.
+     */
+    public List<Long> search(String query) {
+        List<String> terms = TextAnalyzer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            State state = current;
+            List<Map<Long, Double>> slots = new ArrayList<>(terms.size());
+            for (int i = 0; i < terms.size(); i++) {
+                Map<Long, Double> slotScores = i == terms.size() - 1
+                        ? state.scorePrefix(terms.get(i))
+                        : state.scoreTerm(terms.get(i));
+                if (slotScores.isEmpty()) {
+                    return List.of();
+                }
+                slots.add(slotScores);
+            }
+            slots.sort(Comparator.comparingInt(Map::size));
+
+            Map<Long, Double> scores = new HashMap<>();
+            candidates: for (Map.Entry<Long, Double> candidate : slots.get(0).entrySet()) {
+                double score = candidate.getValue();
+                for (int i = 1; i < slots.size(); i++) {
+                    Double slotScore = slots.get(i).get(candidate.getKey());
+                    if (slotScore == null) {
+                        continue candidates;
+                    }
+                    score += slotScore;
+                }
+                scores.put(candidate.getKey(), score);
+            }
+
+            List<Long> ids = new ArrayList<>(scores.keySet());
+            ids.sort(Comparator.<Long>comparingDouble(scores::get).reversed().thenComparing(Comparator.reverseOrder()));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Analysis analyse(String title, String content) {
+        List<String> titleTerms = TextAnalyzer.tokenize(TextAnalyzer.stripMarkup(title));
+        List<String> contentTerms = TextAnalyzer.tokenize(TextAnalyzer.stripMarkup(content));
+        Map<String, Posting> documentPostings = new HashMap<>();
+        titleTerms.forEach(term -> documentPostings.computeIfAbsent(term, t -> new Posting()).titleFrequency++);
+        contentTerms.forEach(term -> documentPostings.computeIfAbsent(term, t -> new Posting()).contentFrequency++);
+        return new Analysis(titleTerms.size(), contentTerms.size(), documentPostings);
+    }
+
+    private static double normalise(int frequency, int fieldLength, double averageFieldLength) {
+        if (frequency == 0) {
+            return 0;
+        }
+        return frequency / (1 - B + B * fieldLength / averageFieldLength);
+    }
+
+    /**
+     * An index being loaded beside the live one. Close it in a finally block:
+     * if it was never published, closing drops it.
+     */
+    public final class Rebuild implements AutoCloseable {
+
+        private final State state = new State();
+        private final Set<Long> touched = new HashSet<>();
+
+        private Rebuild() {
+        }
+
+        public void index(Long postId, String title, String content) {
+            Analysis analysis = analyse(title, content);
+
+            lock.writeLock().lock();
+            try {
+                if (building == this && !touched.contains(postId)) {
+                    state.put(postId, analysis);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Replaces the live index with this one, unless a newer rebuild has
+         * started meanwhile.
+         */
+        public void publish() {
+            lock.writeLock().lock();
+            try {
+                if (building == this) {
+                    current = state;
+                    building = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.writeLock().lock();
+            try {
+                if (building == this) {
+                    building = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static final class State {
+
+        private final NavigableMap<String, Map<Long, Posting>> postings = new TreeMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private long totalTitleLength;
+        private long totalContentLength;
+
+        void put(Long postId, Analysis analysis) {
+            remove(postId);
+            analysis.postings().forEach((term, posting) -> postings.computeIfAbsent(term, t -> new HashMap<>())
+                    .put(postId, posting));
+            documents.put(postId, new Document(analysis.titleLength(), analysis.contentLength(),
+                    analysis.postings().keySet()));
+            totalTitleLength += analysis.titleLength();
+            totalContentLength += analysis.contentLength();
+        }
+
+        void remove(Long postId) {
+            Document document = documents.remove(postId);
+            if (document == null) {
+                return;
+            }
+            totalTitleLength -= document.titleLength();
+            totalContentLength -= document.contentLength();
+            for (String term : document.terms()) {
+                Map<Long, Posting> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(postId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        Map<Long, Double> scoreTerm(String term) {
+            Map<Long, Double> scores = new HashMap<>();
+            addTermScores(term, postings.get(term), scores);
+            return scores;
+        }
+
+        Map<Long, Double> scorePrefix(String prefix) {
+            if (prefix.length() < MIN_PREFIX_LENGTH) {
+                return scoreTerm(prefix);
+            }
+            Map<Long, Double> scores = new HashMap<>();
+            int expansions = 0;
+            for (Map.Entry<String, Map<Long, Posting>> entry : postings
+                    .subMap(prefix, true, prefix + Character.MAX_VALUE, true).entrySet()) {
+                addTermScores(entry.getKey(), entry.getValue(), scores);
+                if (++expansions >= MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+            }
+            return scores;
+        }
+
+        private void addTermScores(String term, Map<Long, Posting> termPostings, Map<Long, Double> scores) {
+            if (termPostings == null || termPostings.isEmpty()) {
+                return;
+            }
+            int documentCount = documents.size();
+            double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+            double averageTitleLength = Math.max(1.0, (double) totalTitleLength / documentCount);
+            double averageContentLength = Math.max(1.0, (double) totalContentLength / documentCount);
+
+            termPostings.forEach((postId, posting) -> {
+                Document document = documents.get(postId);
+                double frequency = TITLE_WEIGHT * normalise(posting.titleFrequency, document.titleLength(),
+                        averageTitleLength)
+                        + normalise(posting.contentFrequency, document.contentLength(), averageContentLength);
+                scores.merge(postId, idf * frequency * (K1 + 1) / (frequency + K1), Double::sum);
+            });
+        }
+    }
+
+    private static final class Posting {
+        private int titleFrequency;
+        private int contentFrequency;
+    }
+
+    private record Analysis(int titleLength, int contentLength, Map<String, Posting> postings) {
+    }
+
+    private record Document(int titleLength, int contentLength, Set<String> terms) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.blog.blogapi.search;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.blog.blogapi.repository.PostRepository;
+import com.blog.blogapi.repository.PostTextProjection;
+
+@Component
+public class PostSearchIndexLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostSearchIndexLoader.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+
+    public PostSearchIndexLoader(PostRepository postRepository, PostSearchIndex postSearchIndex) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+    }
+
+    /**
+     * Loads every post into a fresh index and swaps it in, so the live index
+     * keeps answering searches until the new one is complete.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+
+        try (PostSearchIndex.Rebuild rebuild = postSearchIndex.beginRebuild()) {
+            long afterId = 0L;
+            List<PostTextProjection> batch;
+            do {
+                batch = postRepository.findTextBatch(afterId, PageRequest.of(0, BATCH_SIZE));
+                for (PostTextProjection post : batch) {
+                    rebuild.index(post.getId(), post.getTitle(), post.getContent());
+                    afterId = post.getId();
+                }
+            } while (batch.size() == BATCH_SIZE);
+
+            rebuild.publish();
+        }
+
+        logger.info("Search index rebuilt with {} posts in {} ms", postSearchIndex.size(),
+                System.currentTimeMillis() - started);
+    }
+}
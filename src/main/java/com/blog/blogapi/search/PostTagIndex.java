@@ -0,0 +1,359 @@
+package com.blog.blogapi.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps one compressed bitmap of post ids per tag, so tag filters are answered
+ * with bitmap intersections and unions instead of joins over
+ * {@code post_tags}. A query costs time in proportion to the compressed size of
+ * the bitmaps involved, plus the requested page.
+ * <p>
+ * Post ids are stored as 32-bit integers, which is plenty for an identity
+ * column but must be revisited if ids ever pass {@link Integer#MAX_VALUE}.
+ * <p>
+ * The tags of each post are also kept the other way round, so a post is
+ * re-indexed or removed by touching only the bitmaps of its own tags.
+ * <p>
+ * A full reload fills a {@link Rebuild} next to the live index and swaps it in
+ * at the end, so tag filters keep matching every post while it runs.
+ */
+@Component
+public class PostTagIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile State current = new State();
+    private Rebuild building;
+
+    /**
+     * Replaces the tags recorded for a post.
+     */
+    public void index(Long postId, Collection<Long> tagIds) {
+        int id = Math.toIntExact(postId);
+        long[] tags = toArray(tagIds);
+        lock.writeLock().lock();
+        try {
+            current.index(id, tags);
+            if (building != null) {
+                building.touchedPosts.add(id);
+                building.state.index(id, tags);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        int id = Math.toIntExact(postId);
+        lock.writeLock().lock();
+        try {
+            current.remove(id);
+            if (building != null) {
+                building.touchedPosts.add(id);
+                building.state.remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTag(Long tagId) {
+        lock.writeLock().lock();
+        try {
+            current.removeTag(tagId);
+            if (building != null) {
+                building.retag(tagId, null);
+                building.state.removeTag(tagId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves every post of the source tags onto the target tag and drops the
+     * source tags.
+     */
+    public void mergeTags(Collection<Long> sourceTagIds, Long targetTagId) {
+        lock.writeLock().lock();
+        try {
+            current.mergeTags(sourceTagIds, targetTagId);
+            if (building != null) {
+                sourceTagIds.stream()
+                        .filter(sourceTagId -> !sourceTagId.equals(targetTagId))
+                        .forEach(sourceTagId -> building.retag(sourceTagId, targetTagId));
+                building.state.mergeTags(sourceTagIds, targetTagId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Starts an empty index to be filled from the database. Until it is
+     * published, the live updates above also apply to it: posts they touch
+     * are skipped by {@link Rebuild#add}, and links to tags removed or merged
+     * meanwhile are dropped or moved, so a batch read before a newer write
+     * cannot overwrite it. Starting another rebuild abandons this one.
+     */
+    public Rebuild beginRebuild() {
+        Rebuild rebuild = new Rebuild();
+        lock.writeLock().lock();
+        try {
+            building = rebuild;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return rebuild;
+    }
+
+    public int tagCount() {
+        lock.readLock().lock();
+        try {
+            return current.postsByTag.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Current number of posts per tag, for the given tags that have any.
+     */
+    public Map<Long, Integer> postCounts(Collection<Long> tagIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long tagId : tagIds) {
+                RoaringBitmap posts = current.postsByTag.get(tagId);
+                if (posts != null) {
+                    counts.put(tagId, posts.getCardinality());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    /**
+     * Finds the posts carrying all of the given tags, or any of them when
+     * {@code matchAll} is false. The result is a private copy, so it stays
+     * valid while the index keeps changing.
+     */
+    public Result match(Collection<Long> tagIds, boolean matchAll) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            State state = current;
+            for (Long tagId : new LinkedHashSet<>(tagIds)) {
+                RoaringBitmap posts = state.postsByTag.get(tagId);
+                if (posts != null) {
+                    bitmaps.add(posts);
+                } else if (matchAll) {
+                    return new Result(new RoaringBitmap());
+                }
+            }
+            if (bitmaps.isEmpty()) {
+                return new Result(new RoaringBitmap());
+            }
+            if (bitmaps.size() == 1) {
+                return new Result(bitmaps.get(0).clone());
+            }
+            RoaringBitmap[] operands = bitmaps.toArray(new RoaringBitmap[0]);
+            return new Result(matchAll ? FastAggregation.and(operands) : FastAggregation.or(operands));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long[] toArray(Collection<Long> tagIds) {
+        return tagIds.stream().mapToLong(Long::longValue).distinct().toArray();
+    }
+
+    /**
+     * The tags with {@code from} swapped for {@code to}, or dropped when
+     * {@code to} is null or already present. Returns null, which removes the
+     * entry, once no tag is left.
+     */
+    private static long[] replace(long[] tags, long from, Long to) {
+        boolean keepTarget = to != null && Arrays.stream(tags).noneMatch(tag -> tag == to);
+        long[] result = Arrays.stream(tags)
+                .filter(tag -> tag != from || keepTarget)
+                .map(tag -> tag == from ? to : tag)
+                .toArray();
+        return result.length == 0 ? null : result;
+    }
+
+    /**
+     * An index being loaded beside the live one. Close it in a finally block:
+     * if it was never published, closing drops it.
+     */
+    public final class Rebuild implements AutoCloseable {
+
+        private final State state = new State();
+        private final Set<Integer> touchedPosts = new HashSet<>();
+        private final Map<Long, Long> retaggedTags = new HashMap<>();
+
+        private Rebuild() {
+        }
+
+        /**
+         * Records the tags of a post read from the database. The loader adds
+         * each post once, so the common case adds without looking anything up.
+         */
+        public void add(Long postId, Collection<Long> tagIds) {
+            int id = Math.toIntExact(postId);
+            lock.writeLock().lock();
+            try {
+                if (building == this && !touchedPosts.contains(id)) {
+                    state.add(id, toArray(tagIds.stream().map(this::retagged).filter(Objects::nonNull).toList()));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Converts dense stretches to run containers and replaces the live
+         * index with this one, unless a newer rebuild has started meanwhile.
+         */
+        public void publish() {
+            lock.writeLock().lock();
+            try {
+                if (building == this) {
+                    state.postsByTag.values().forEach(RoaringBitmap::runOptimize);
+                    current = state;
+                    building = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.writeLock().lock();
+            try {
+                if (building == this) {
+                    building = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Records that links to {@code from} now belong to {@code to}, or are
+         * gone when {@code to} is null, including links already moved onto
+         * {@code from}.
+         */
+        private void retag(Long from, Long to) {
+            retaggedTags.replaceAll((source, target) -> from.equals(target) ? to : target);
+            retaggedTags.put(from, to);
+        }
+
+        private Long retagged(Long tagId) {
+            return retaggedTags.containsKey(tagId) ? retaggedTags.get(tagId) : tagId;
+        }
+    }
+
+    private static final class State {
+
+        private final Map<Long, RoaringBitmap> postsByTag = new HashMap<>();
+        private final Map<Integer, long[]> tagsByPost = new HashMap<>();
+
+        void index(int postId, long[] tags) {
+            remove(postId);
+            add(postId, tags);
+        }
+
+        void add(int postId, long[] tags) {
+            if (tags.length == 0) {
+                return;
+            }
+            for (long tagId : tags) {
+                postsByTag.computeIfAbsent(tagId, t -> new RoaringBitmap()).add(postId);
+            }
+            tagsByPost.put(postId, tags);
+        }
+
+        void remove(int postId) {
+            long[] tags = tagsByPost.remove(postId);
+            if (tags == null) {
+                return;
+            }
+            for (long tagId : tags) {
+                RoaringBitmap posts = postsByTag.get(tagId);
+                if (posts != null) {
+                    posts.remove(postId);
+                    if (posts.isEmpty()) {
+                        postsByTag.remove(tagId);
+                    }
+                }
+            }
+        }
+
+        void removeTag(Long tagId) {
+            RoaringBitmap posts = postsByTag.remove(tagId);
+            if (posts != null) {
+                posts.forEach((int postId) -> tagsByPost.computeIfPresent(postId,
+                        (id, tags) -> replace(tags, tagId, null)));
+            }
+        }
+
+        void mergeTags(Collection<Long> sourceTagIds, Long targetTagId) {
+            RoaringBitmap target = postsByTag.computeIfAbsent(targetTagId, t -> new RoaringBitmap());
+            for (Long sourceTagId : sourceTagIds) {
+                RoaringBitmap source = sourceTagId.equals(targetTagId) ? null : postsByTag.remove(sourceTagId);
+                if (source != null) {
+                    target.or(source);
+                    source.forEach((int postId) -> tagsByPost.computeIfPresent(postId,
+                            (id, tags) -> replace(tags, sourceTagId, targetTagId)));
+                }
+            }
+            if (target.isEmpty()) {
+                postsByTag.remove(targetTagId);
+            }
+        }
+    }
+
+    public static final class Result {
+
+        private final RoaringBitmap postIds;
+
+        private Result(RoaringBitmap postIds) {
+            this.postIds = postIds;
+        }
+
+        public long total() {
+            return postIds.getLongCardinality();
+        }
+
+        /**
+         * Returns one page of matching post ids, newest first. Each id is found
+         * by rank, so deep pages cost no more than the first.
+         */
+        public List<Long> page(long offset, int size) {
+            long total = total();
+            List<Long> ids = new ArrayList<>(size);
+            for (long rank = total - 1 - offset; rank >= 0 && ids.size() < size; rank--) {
+                ids.add(Integer.toUnsignedLong(postIds.select((int) rank)));
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.blog.blogapi.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.blog.blogapi.repository.PostRepository;
+import com.blog.blogapi.repository.PostTagLink;
+
+@Component
+public class PostTagIndexLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostTagIndexLoader.class);
+    private static final int BATCH_SIZE = 5_000;
+
+    private final PostRepository postRepository;
+    private final PostTagIndex postTagIndex;
+
+    public PostTagIndexLoader(PostRepository postRepository, PostTagIndex postTagIndex) {
+        this.postRepository = postRepository;
+        this.postTagIndex = postTagIndex;
+    }
+
+    /**
+     * Streams {@code post_tags} in (post, tag) order into a fresh index,
+     * adding each post once all of its links have been read, and swaps it in
+     * so the live index keeps answering until the new one is complete.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+
+        try (PostTagIndex.Rebuild rebuild = postTagIndex.beginRebuild()) {
+            long afterPostId = 0L;
+            long afterTagId = 0L;
+            Long currentPostId = null;
+            List<Long> currentTags = new ArrayList<>();
+            List<PostTagLink> batch;
+            do {
+                batch = postRepository.findTagLinkBatch(afterPostId, afterTagId, PageRequest.of(0, BATCH_SIZE));
+                for (PostTagLink link : batch) {
+                    if (!link.getPostId().equals(currentPostId)) {
+                        if (currentPostId != null) {
+                            rebuild.add(currentPostId, currentTags);
+                        }
+                        currentPostId = link.getPostId();
+                        currentTags = new ArrayList<>();
+                    }
+                    currentTags.add(link.getTagId());
+                    afterPostId = link.getPostId();
+                    afterTagId = link.getTagId();
+                }
+            } while (batch.size() == BATCH_SIZE);
+            if (currentPostId != null) {
+                rebuild.add(currentPostId, currentTags);
+            }
+
+            rebuild.publish();
+        }
+
+        logger.info("Tag index rebuilt with {} tags in {} ms", postTagIndex.tagCount(),
+                System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,110 @@
+package com.blog.blogapi.search;
+
+import java.util.List;
+
+import com.blog.blogapi.search.TextAnalyzer.Token;
+
+/**
+ * Cuts a short excerpt around the densest cluster of query terms in a post and
+ * wraps those terms in {@code <mark>}. Everything else is escaped for use as
+ * element content, so clients can render the snippet as markup.
+ */
+public final class SnippetBuilder {
+
+    static final int WINDOW_TOKENS = 30;
+    static final int LEAD_TOKENS = 5;
+    private static final String ELLIPSIS = "...";
+
+    private SnippetBuilder() {
+        // Utility class
+    }
+
+    public static String build(String content, String query) {
+        String text = TextAnalyzer.stripMarkup(content);
+        List<Token> tokens = TextAnalyzer.tokens(text);
+        if (tokens.isEmpty()) {
+            return "";
+        }
+        List<String> queryTerms = TextAnalyzer.tokenize(query);
+
+        boolean[] hits = new boolean[tokens.size()];
+        int[] hitsBefore = new int[tokens.size() + 1];
+        for (int i = 0; i < tokens.size(); i++) {
+            hits[i] = matchesQuery(tokens.get(i).term(), queryTerms);
+            hitsBefore[i + 1] = hitsBefore[i] + (hits[i] ? 1 : 0);
+        }
+
+        int start = bestWindowStart(hits, hitsBefore);
+        int end = Math.min(tokens.size(), start + WINDOW_TOKENS);
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append(ELLIPSIS).append(' ');
+        }
+        int cursor = tokens.get(start).start();
+        for (int i = start; i < end; i++) {
+            Token token = tokens.get(i);
+            appendEscaped(snippet, text.substring(cursor, token.start()).replaceAll("\\s+", " "));
+            String word = text.substring(token.start(), token.end());
+            if (hits[i]) {
+                snippet.append("<mark>");
+                appendEscaped(snippet, word);
+                snippet.append("</mark>");
+            } else {
+                appendEscaped(snippet, word);
+            }
+            cursor = token.end();
+        }
+        if (end < tokens.size()) {
+            snippet.append(' ').append(ELLIPSIS);
+        } else {
+            appendEscaped(snippet, text.substring(cursor).replaceAll("\\s+", " ").stripTrailing());
+        }
+        return snippet.toString();
+    }
+
+    /**
+     * Windows start a few tokens before a hit; the one holding the most hits
+     * wins, earliest first. Without any hit the excerpt is the opening.
+     */
+    private static int bestWindowStart(boolean[] hits, int[] hitsBefore) {
+        int bestStart = 0;
+        int bestCount = 0;
+        for (int i = 0; i < hits.length; i++) {
+            if (!hits[i]) {
+                continue;
+            }
+            int start = Math.max(0, i - LEAD_TOKENS);
+            int end = Math.min(hits.length, start + WINDOW_TOKENS);
+            int count = hitsBefore[end] - hitsBefore[start];
+            if (count > bestCount) {
+                bestCount = count;
+                bestStart = start;
+            }
+        }
+        return bestStart;
+    }
+
+    private static boolean matchesQuery(String term, List<String> queryTerms) {
+        for (int i = 0; i < queryTerms.size(); i++) {
+            String queryTerm = queryTerms.get(i);
+            boolean prefix = i == queryTerms.size() - 1 && queryTerm.length() >= PostSearchIndex.MIN_PREFIX_LENGTH;
+            if (prefix ? term.startsWith(queryTerm) : term.equals(queryTerm)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendEscaped(StringBuilder out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
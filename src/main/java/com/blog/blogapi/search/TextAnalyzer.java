@@ -0,0 +1,95 @@
+package com.blog.blogapi.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Turns post text into index terms. Markup from the rich text editor is dropped,
+ * and case and diacritics are folded so Turkish and English input meet on the
+ * same terms: "İstanbul", "ISTANBUL" and "istanbul" all become "istanbul", and
+ * "şiir" matches "siir".
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern HTML_ENTITY = Pattern.compile("&#?[a-zA-Z0-9]+;");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private TextAnalyzer() {
+        // Utility class
+    }
+
+    public static String stripMarkup(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        return HTML_ENTITY.matcher(HTML_TAG.matcher(text).replaceAll(" ")).replaceAll(" ");
+    }
+
+    /**
+     * Folds a single word. The Turkish dotted and dotless i are mapped before
+     * lower-casing because {@link String#toLowerCase} with a root locale turns
+     * 'İ' into two characters and leaves 'ı' alone.
+     */
+    public static String fold(String word) {
+        if (word == null || word.isEmpty()) {
+            return "";
+        }
+        StringBuilder mapped = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            switch (c) {
+                case 'I', '\u0130', '\u0131' -> mapped.append('i');
+                default -> mapped.append(c);
+            }
+        }
+        String decomposed = Normalizer.normalize(mapped, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits already stripped text into folded terms, in document order.
+     */
+    public static List<String> tokenize(String text) {
+        return tokens(text).stream().map(Token::term).toList();
+    }
+
+    /**
+     * Like {@link #tokenize(String)} but keeps where each term sits in
+     * {@code text}, for highlighting.
+     */
+    public static List<Token> tokens(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        int start = -1;
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            if (isWordCharacter(codePoint)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(new Token(fold(text.substring(start, i)), start, i));
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            tokens.add(new Token(fold(text.substring(start)), start, text.length()));
+        }
+        return tokens;
+    }
+
+    private static boolean isWordCharacter(int codePoint) {
+        return Character.isLetterOrDigit(codePoint) || Character.getType(codePoint) == Character.NON_SPACING_MARK;
+    }
+
+    public record Token(String term, int start, int end) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.blog.blogapi.security;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt whose cost is either fixed or calibrated at startup to a target hash
+ * time. A stored hash with a lower cost asks to be upgraded, so hashes catch up
+ * with a raised setting as users log in. A higher cost is left alone, so nodes
+ * that briefly disagree during a rollout do not rewrite each other's hashes.
+ */
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    static final int MIN_STRENGTH = 10;
+    static final int MAX_STRENGTH = 16;
+
+    private static final int PROBE_STRENGTH = 8;
+    private static final int PROBE_ROUNDS = 3;
+    private static final Pattern COST = Pattern.compile("^\\$2[abyx]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * Measures a cheap hash on this machine and picks the cost whose hash
+     * takes closest to the target. Each extra cost step doubles the time.
+     * The result is kept between {@value #MIN_STRENGTH} and
+     * {@value #MAX_STRENGTH}.
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrated(Duration target) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        probe.encode("calibration");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return new AdaptiveBCryptPasswordEncoder(strengthFor(target.toNanos(), best));
+    }
+
+    static int strengthFor(long targetNanos, long probeNanos) {
+        double steps = Math.log((double) targetNanos / Math.max(1, probeNanos)) / Math.log(2);
+        int strength = PROBE_STRENGTH + (int) Math.round(steps);
+        return Math.max(MIN_STRENGTH, Math.min(MAX_STRENGTH, strength));
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+}
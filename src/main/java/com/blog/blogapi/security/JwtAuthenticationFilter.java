@@ -14,6 +14,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -30,10 +31,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+            TokenVersionRegistry tokenVersionRegistry) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
     }
 
     @Override
@@ -57,18 +61,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private void validateTokenAndSetAuthentication(HttpServletRequest request, String jwt) {
-        final String username = extractUsername(jwt, request);
+        final Claims claims = parseClaims(jwt, request);
+        final String username = claims != null ? claims.getSubject() : null;
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = loadUserDetails(username, request);
-            if (userDetails != null && Boolean.TRUE.equals(jwtUtil.isTokenValid(jwt, userDetails))) {
+            UserDetails userDetails = jwtUtil.hasIdentityClaims(claims)
+                    ? principalFromClaims(claims)
+                    : loadUserDetails(username, request);
+            if (userDetails != null && jwtUtil.isTokenValid(claims, userDetails)) {
                 setAuthentication(request, userDetails);
             }
         }
     }
 
-    private String extractUsername(String jwt, HttpServletRequest request) {
+    private UserDetails principalFromClaims(Claims claims) {
+        Long userId = jwtUtil.extractUserId(claims);
+        if (!tokenVersionRegistry.isCurrent(userId, jwtUtil.extractTokenVersion(claims))) {
+            filterLogger.warn("Revoked JWT for user: {}", claims.getSubject());
+            return null;
+        }
+        return UserDetailsImpl.build(userId, claims.getSubject(), claims.get(JwtUtil.ROLE_CLAIM, String.class));
+    }
+
+    private Claims parseClaims(String jwt, HttpServletRequest request) {
         try {
-            return jwtUtil.extractUsername(jwt);
+            return jwtUtil.parseValidClaims(jwt);
         } catch (ExpiredJwtException | UnsupportedJwtException | MalformedJwtException | SignatureException
                 | IllegalArgumentException e) {
             filterLogger.warn("JWT validation error: {} for URI: {}", e.getMessage(), request.getRequestURI());
@@ -1,18 +1,33 @@
 package com.blog.blogapi.security;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import com.blog.blogapi.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -20,10 +35,52 @@ import io.jsonwebtoken.security.Keys;
 @Component
 public class JwtUtil {
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private static final long UNBOUNDED_TOKEN_CACHE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(JwtUtil::newSha256);
+
     private final Key secretKey;
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, Claims> verifiedTokens;
+    private final Timer verificationTimer;
+
+    public JwtUtil(String secret) {
+        this(secret, 0);
+    }
+
+    public JwtUtil(String secret, long verifiedTokenCacheSize) {
+        this(secret, verifiedTokenCacheSize, new SimpleMeterRegistry());
+    }
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
+    /**
+     * @param verifiedTokenCacheSize how many verified tokens to remember until
+     *                               they expire; {@code 0} verifies every call
+     */
+    @Autowired
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+            @Value("${jwt.verified-token-cache-size:10000}") long verifiedTokenCacheSize,
+            MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = verifiedTokenCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedTokenCacheSize)
+                        .expireAfter(new UntilTokenExpires())
+                        .recordStats()
+                        .build()
+                : null;
+        this.verificationTimer = Timer.builder("jwt.verification")
+                .description("Signature check and claims parsing of tokens not yet cached")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        if (verifiedTokens != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+        }
     }
 
     public String extractUsername(String token) {
@@ -32,7 +89,25 @@ public class JwtUtil {
 
     public String extractRole(String token) {
         final Claims claims = extractAllClaims(token);
-        return claims.get("role", String.class);
+        return claims.get(ROLE_CLAIM, String.class);
+    }
+
+    /**
+     * Tokens issued before user ids and versions were embedded carry neither;
+     * callers then fall back to loading the user.
+     */
+    public boolean hasIdentityClaims(Claims claims) {
+        return claims.get(USER_ID_CLAIM) instanceof Number
+                && claims.get(TOKEN_VERSION_CLAIM) instanceof Number
+                && claims.get(ROLE_CLAIM) instanceof String;
+    }
+
+    public Long extractUserId(Claims claims) {
+        return claims.get(USER_ID_CLAIM, Number.class).longValue();
+    }
+
+    public int extractTokenVersion(Claims claims) {
+        return claims.get(TOKEN_VERSION_CLAIM, Number.class).intValue();
     }
 
     public Date extractExpiration(String token) {
@@ -44,21 +119,46 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Verifies the signature and expiry of a token and returns its claims.
+     * Tokens already verified are answered from a cache keyed by their SHA-256
+     * digest until they expire, so a session pays for HMAC and JSON parsing
+     * once.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged
+     *                                      or expired
+     */
+    public Claims parseValidClaims(String token) {
+        if (verifiedTokens == null) {
+            return extractAllClaims(token);
+        }
+        ByteBuffer digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = extractAllClaims(token);
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        long start = System.nanoTime();
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } finally {
+            verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", user.getRoleForClaim());
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, user.getRoleForClaim());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
         return createToken(claims, user.getUsername());
     }
 
@@ -78,7 +178,47 @@ public class JwtUtil {
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return isTokenValid(parseValidClaims(token), userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Drops a cached token exactly when the token itself expires.
+     */
+    private static final class UntilTokenExpires implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return UNBOUNDED_TOKEN_CACHE_NANOS;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
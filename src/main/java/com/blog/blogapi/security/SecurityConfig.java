@@ -1,5 +1,10 @@
 package com.blog.blogapi.security;
 
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,23 +18,30 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+
     private static final String ADMIN = "ADMIN";
     private static final String USER = "USER";
     private static final String API_POSTS_PATH = "/api/posts/**";
     private static final String API_TAGS_PATH = "/api/tags/**";
+    private static final String API_LOCALIZATION_PATH = "/api/localization/**";
+    private static final String ACTUATOR_PATH = "/actuator/**";
     private static final String[] PUBLIC_PATHS = {
             "/api/auth/**",
             "/api/users/register",
+            "/api/users/availability",
             "/swagger-ui/**",
             "/swagger-ui.html",
             "/swagger-ui/index.html",
@@ -37,7 +49,8 @@ public class SecurityConfig {
             "/api-docs/**",
             "/swagger-resources/**",
             "/webjars/**",
-            "/actuator/**",
+            "/actuator/health/**",
+            "/actuator/info",
             "/favicon.ico"
     };
 
@@ -50,15 +63,21 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider,
+            @Value("${server.port:8080}") int serverPort,
+            @Value("${management.server.port:-1}") int managementPort) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(withDefaults())
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(onManagementPort(serverPort, managementPort))
+                        .permitAll()
                         .requestMatchers(PUBLIC_PATHS)
                         .permitAll()
+                        .requestMatchers(ACTUATOR_PATH).hasRole(ADMIN)
                         .requestMatchers(HttpMethod.GET, API_POSTS_PATH).permitAll()
                         .requestMatchers(HttpMethod.GET, API_TAGS_PATH).permitAll()
+                        .requestMatchers(HttpMethod.GET, API_LOCALIZATION_PATH).permitAll()
                         .requestMatchers(HttpMethod.POST, API_TAGS_PATH).hasRole(ADMIN)
                         .requestMatchers(HttpMethod.PUT, API_TAGS_PATH).hasRole(ADMIN)
                         .requestMatchers(HttpMethod.DELETE, API_TAGS_PATH).hasRole(ADMIN)
@@ -68,16 +87,28 @@ public class SecurityConfig {
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
 
+    /**
+     * Matches requests to a management server on its own port, which is only
+     * reachable from the internal network. On the main port actuator stays
+     * admin-only.
+     */
+    private static RequestMatcher onManagementPort(int serverPort, int managementPort) {
+        if (managementPort <= 0 || managementPort == serverPort) {
+            return request -> false;
+        }
+        return request -> request.getLocalPort() == managementPort;
+    }
+
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -86,8 +117,24 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt at a fixed cost, or calibrated to the target hash time when the
+     * strength is 0, run on its own bounded pool. {@code threads} 0 means half
+     * the cores, leaving the rest to request handling.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+            @Value("${security.password.bcrypt-strength:12}") int strength,
+            @Value("${security.password.target-hash-ms:100}") long targetHashMillis,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.hashing.timeout-ms:2000}") long timeoutMillis) {
+        AdaptiveBCryptPasswordEncoder bcrypt = strength > 0
+                ? new AdaptiveBCryptPasswordEncoder(strength)
+                : AdaptiveBCryptPasswordEncoder.calibrated(Duration.ofMillis(targetHashMillis));
+        logger.info("Hashing passwords with BCrypt strength {}", bcrypt.getStrength());
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new TimedPasswordEncoder(bcrypt, meterRegistry), poolSize, queueCapacity,
+                Duration.ofMillis(timeoutMillis), meterRegistry);
     }
 }
\ No newline at end of file
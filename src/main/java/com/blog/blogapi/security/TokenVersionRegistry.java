@@ -0,0 +1,47 @@
+package com.blog.blogapi.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.blog.blogapi.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers each user's current token version so claims-based authentication
+ * can reject revoked tokens without reading the user on every request. Other
+ * nodes pick up a change once their entry expires.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private static final int DELETED = -1;
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Integer> versions;
+
+    public TokenVersionRegistry(UserRepository userRepository,
+            @Value("${jwt.token-version-cache-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Integer current = versions.get(userId,
+                id -> userRepository.findTokenVersionById(id).orElse(DELETED));
+        return current != DELETED && current == tokenVersion;
+    }
+
+    public void evict(Long userId) {
+        versions.invalidate(userId);
+    }
+
+    public void evictAll() {
+        versions.invalidateAll();
+    }
+}
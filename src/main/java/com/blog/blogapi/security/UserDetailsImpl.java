@@ -8,12 +8,14 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.blog.blogapi.model.Role;
 import com.blog.blogapi.model.User;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public class UserDetailsImpl implements UserDetails {
 
     private static final long serialVersionUID = 1L;
+    private static final String ADMIN_AUTHORITY = "ROLE_" + Role.ADMIN.name();
 
     private final Long id;
     private final String username;
@@ -41,6 +43,15 @@ public class UserDetailsImpl implements UserDetails {
                 authorities);
     }
 
+    /**
+     * Principal rebuilt from verified token claims, without a database read.
+     * It carries no email or password.
+     */
+    public static UserDetailsImpl build(Long id, String username, String roleClaim) {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(roleClaim));
+        return new UserDetailsImpl(id, username, null, null, authorities);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -54,6 +65,10 @@ public class UserDetailsImpl implements UserDetails {
         return email;
     }
 
+    public boolean isAdmin() {
+        return authorities.stream().anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+    }
+
     @Override
     public String getPassword() {
         return password;
@@ -1,11 +1,14 @@
 package com.blog.blogapi.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.blog.blogapi.dto.LoginRequest;
 import com.blog.blogapi.dto.LoginResponse;
+import com.blog.blogapi.exception.PasswordHashingBusyException;
 import com.blog.blogapi.model.User;
 import com.blog.blogapi.repository.UserRepository;
 import com.blog.blogapi.security.JwtUtil;
@@ -13,6 +16,8 @@ import com.blog.blogapi.security.JwtUtil;
 @Service
 public class AuthService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
@@ -30,6 +35,9 @@ public class AuthService {
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             throw new BadCredentialsException("Invalid credentials");
         }
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            rehash(user, request.getPassword());
+        }
 
         String jwt = jwtUtil.generateToken(user);
         LoginResponse response = new LoginResponse();
@@ -38,6 +46,20 @@ public class AuthService {
         return response;
     }
 
+    /**
+     * Brings a hash made with another cost up to the current setting while the
+     * raw password is at hand. Best effort: a busy hashing pool leaves the old
+     * hash for the next login.
+     */
+    private void rehash(User user, String rawPassword) {
+        try {
+            String hash = passwordEncoder.encode(rawPassword);
+            userRepository.updatePasswordHash(user.getId(), user.getPassword(), hash);
+        } catch (PasswordHashingBusyException e) {
+            logger.debug("Skipping password rehash of user {}: {}", user.getId(), e.getMessage());
+        }
+    }
+
     private LoginResponse.UserInfo toUserResponse(User user) {
         LoginResponse.UserInfo userInfo = new LoginResponse.UserInfo();
         userInfo.setId(user.getId());
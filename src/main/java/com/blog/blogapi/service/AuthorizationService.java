@@ -1,7 +1,5 @@
 package com.blog.blogapi.service;
 
-import java.util.Optional;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.access.AccessDeniedException;
@@ -12,8 +10,10 @@ import org.springframework.stereotype.Service;
 import com.blog.blogapi.exception.ResourceNotFoundException;
 import com.blog.blogapi.model.Post;
 import com.blog.blogapi.model.User;
+import com.blog.blogapi.repository.PostOwnership;
 import com.blog.blogapi.repository.PostRepository;
 import com.blog.blogapi.repository.UserRepository;
+import com.blog.blogapi.security.UserDetailsImpl;
 
 @Service
 public class AuthorizationService {
@@ -28,79 +28,96 @@ public class AuthorizationService {
         this.postRepository = postRepository;
     }
 
+    /**
+     * Checks that the current user may modify the post, reading only its id
+     * and author id. Use this when the mutation does not need the entity.
+     */
     public void checkPostOwnerOrAdmin(Long postId) {
         logger.info("Checking ownership or admin status for Post ID: {}", postId);
 
-        User currentUser = getCurrentUserOrThrow();
+        UserDetailsImpl currentUser = getCurrentPrincipalOrThrow();
         logger.debug("Current User ID: {}, Username: {}", currentUser.getId(), currentUser.getUsername());
 
-        Post post = getPostOrThrow(postId);
-        logger.debug("Post found with ID: {}. Title: {}", post.getId(), post.getTitle());
+        PostOwnership ownership = postRepository.findOwnershipById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
 
-        if (!isAuthorized(currentUser, post)) {
-            logger.error("Access DENIED for user {} for post {}.", currentUser.getUsername(), postId);
-            throw new AccessDeniedException("You do not have permission to perform this action on the post.");
-        }
+        requireAuthorized(currentUser, postId, ownership.getAuthorId());
+    }
+
+    /**
+     * Loads the post and checks that the current user may modify it, so the
+     * caller can apply its changes without loading the post a second time.
+     */
+    public Post getPostForModificationOrThrow(Long postId) {
+        logger.info("Loading Post ID: {} for modification", postId);
+
+        UserDetailsImpl currentUser = getCurrentPrincipalOrThrow();
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+
+        requireAuthorized(currentUser, postId, post.getAuthorId());
+        return post;
     }
 
     public void checkAdmin() {
         logger.info("Checking admin status.");
-        User currentUser = getCurrentUserOrThrow();
-        if (!isAdmin(currentUser)) {
+        UserDetailsImpl currentUser = getCurrentPrincipalOrThrow();
+        if (!currentUser.isAdmin()) {
             logger.error("Access DENIED for user {} (not admin).", currentUser.getUsername());
             throw new AccessDeniedException("You must be an admin to perform this action.");
         }
         logger.info("Admin access GRANTED for user {}.", currentUser.getUsername());
     }
 
+    public Long getCurrentUserId() {
+        return getCurrentPrincipalOrThrow().getId();
+    }
+
+    /**
+     * Returns a reference to the current user for use in associations. The id
+     * comes from the authenticated principal, so no query is issued unless the
+     * caller reads other fields.
+     */
     User getCurrentUserOrThrow() {
-        return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
-                .map(Authentication::getName)
-                .flatMap(userRepository::findByUsername)
-                .orElseThrow(() -> new AccessDeniedException("User not authenticated to perform this action."));
+        return userRepository.getReferenceById(getCurrentUserId());
     }
 
-    Post getPostOrThrow(Long postId) {
-        return postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+    UserDetailsImpl getCurrentPrincipalOrThrow() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl principal) {
+            return principal;
+        }
+        throw new AccessDeniedException("User not authenticated to perform this action.");
+    }
+
+    private void requireAuthorized(UserDetailsImpl currentUser, Long postId, Long authorId) {
+        if (!isAuthorized(currentUser, postId, authorId)) {
+            logger.error("Access DENIED for user {} for post {}.", currentUser.getUsername(), postId);
+            throw new AccessDeniedException("You do not have permission to perform this action on the post.");
+        }
     }
 
-    boolean isAuthorized(User currentUser, Post post) {
+    boolean isAuthorized(UserDetailsImpl currentUser, Long postId, Long authorId) {
         if (currentUser.isAdmin()) {
             logger.info("Authorization check: User {} is admin on post {}.",
-                    currentUser.getUsername(), post.getId());
+                    currentUser.getUsername(), postId);
             return true;
         }
 
-        if (!post.hasAuthor()) {
-            logger.warn("Post author is NULL for Post ID: {}.", post.getId());
+        if (authorId == null) {
+            logger.warn("Post author is NULL for Post ID: {}.", postId);
             return false;
         }
 
-        if (post.isAuthoredBy(currentUser)) {
+        if (authorId.equals(currentUser.getId())) {
             logger.info("Authorization check: User {} is author of post {}.",
-                    currentUser.getUsername(), post.getId());
+                    currentUser.getUsername(), postId);
             return true;
         }
 
         logger.error(
                 "Authorization check: User {} is not admin and not author of post {}. CurrentUserID: {}",
-                currentUser.getUsername(), post.getId(), currentUser.getId());
+                currentUser.getUsername(), postId, currentUser.getId());
         return false;
     }
-
-    boolean isAdmin(User user) {
-        if (user == null) {
-            logger.debug("isAdmin check: User object is null.");
-            return false;
-        }
-        if (user.getRole() == null) {
-            logger.debug("isAdmin check: User's role is null for user: {}", user.getUsername());
-            return false;
-        }
-        boolean isAdmin = user.isAdmin();
-        logger.debug("IsAdmin check: User: {}, Role: {}, IsAdmin: {}", user.getUsername(), user.getRoleName(),
-                isAdmin);
-        return isAdmin;
-    }
-}
\ No newline at end of file
+}
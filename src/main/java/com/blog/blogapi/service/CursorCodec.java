@@ -0,0 +1,76 @@
+package com.blog.blogapi.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.blog.blogapi.exception.InvalidRequestException;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe cursors so clients never build
+ * them by hand.
+ */
+final class CursorCodec {
+
+    private static final String SEPARATOR = "~";
+
+    private CursorCodec() {
+        // Utility class
+    }
+
+    static String encode(long lastSeenId) {
+        return encodeRaw(Long.toString(lastSeenId));
+    }
+
+    static String encode(LocalDateTime createdAt, long id) {
+        return encodeRaw(createdAt + SEPARATOR + id);
+    }
+
+    /**
+     * Returns the id to continue after, or {@link Long#MAX_VALUE} for a blank
+     * cursor so the first page goes through the same range scan.
+     */
+    static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(decodeRaw(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Returns the (createdAt, id) position to continue after, or null for a
+     * blank cursor.
+     */
+    static Position decodePosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = decodeRaw(cursor);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid cursor: " + cursor);
+            }
+            return new Position(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    record Position(LocalDateTime createdAt, long id) {
+    }
+}
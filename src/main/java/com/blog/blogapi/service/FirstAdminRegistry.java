@@ -0,0 +1,106 @@
+package com.blog.blogapi.service;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.blog.blogapi.model.AdminClaim;
+import com.blog.blogapi.repository.AdminClaimRepository;
+import com.blog.blogapi.repository.UserRepository;
+
+/**
+ * Decides which registration becomes the first admin. The seat is taken by
+ * inserting the single {@link AdminClaim} row in the same transaction as the
+ * user, so concurrent first signups cannot both win. Once a node has seen the
+ * seat taken it stops asking the database, and registration is one insert.
+ */
+@Component
+public class FirstAdminRegistry {
+
+    private final AdminClaimRepository adminClaimRepository;
+    private final UserRepository userRepository;
+    private volatile Boolean claimed;
+
+    public FirstAdminRegistry(AdminClaimRepository adminClaimRepository, UserRepository userRepository) {
+        this.adminClaimRepository = adminClaimRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Whether the next registration should try to take the admin seat.
+     */
+    public boolean mayClaim() {
+        Boolean current = claimed;
+        if (current == null) {
+            current = load();
+        }
+        return !current;
+    }
+
+    /**
+     * Takes the seat for the user. Call inside the transaction that inserts
+     * the user; a lost race fails it with a violation that
+     * {@link #isClaimConflict} recognizes.
+     */
+    public void claim(Long userId) {
+        adminClaimRepository.claim(userId);
+    }
+
+    public void markClaimed() {
+        claimed = Boolean.TRUE;
+    }
+
+    public static boolean isClaimConflict(DataIntegrityViolationException e) {
+        return violation(e).contains("admin_claim");
+    }
+
+    /**
+     * The violated constraint name, when Hibernate extracted one, and the
+     * driver's message, lower-cased. Databases word these differently, so
+     * the table name is looked for anywhere in it.
+     */
+    private static String violation(DataIntegrityViolationException e) {
+        StringBuilder text = new StringBuilder();
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                text.append(violation.getConstraintName()).append(' ');
+                break;
+            }
+        }
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        if (message != null) {
+            text.append(message);
+        }
+        return text.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A database that had users before the claim row existed gets the row
+     * now, so none of its later signups becomes admin.
+     */
+    private synchronized boolean load() {
+        if (claimed != null) {
+            return claimed;
+        }
+        boolean taken = adminClaimRepository.existsById(AdminClaim.ID);
+        if (!taken) {
+            taken = userRepository.findFirstByOrderByIdAsc()
+                    .map(first -> {
+                        try {
+                            adminClaimRepository.claim(first.getId());
+                        } catch (DataIntegrityViolationException e) {
+                            // Another node seeded it first
+                        }
+                        return true;
+                    })
+                    .orElse(false);
+        }
+        if (taken) {
+            claimed = Boolean.TRUE;
+        }
+        return taken;
+    }
+}
@@ -0,0 +1,219 @@
+package com.blog.blogapi.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.blog.blogapi.model.LocalizationMessage;
+import com.blog.blogapi.repository.LocalizationMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Holds every localization message in memory as an immutable per-locale
+ * dictionary. Lookups are plain map reads, and a key that is not translated
+ * allocates nothing. A write builds a new snapshot and swaps it in atomically;
+ * a change to one message or locale re-reads and re-serializes only that
+ * locale, and shares the others with the previous snapshot.
+ * <p>
+ * Each locale is also kept as a ready-to-send bundle: its JSON, plain and
+ * gzipped, versioned by a hash of the content.
+ */
+@Component
+public class LocalizationCatalog {
+
+    public static final String DEFAULT_LOCALE = "en";
+
+    private final LocalizationMessageRepository messageRepository;
+    private final ObjectMapper objectMapper;
+    private volatile Snapshot snapshot;
+
+    public LocalizationCatalog(LocalizationMessageRepository messageRepository, ObjectMapper objectMapper) {
+        this.messageRepository = messageRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload();
+    }
+
+    /**
+     * Returns the current snapshot, loading it on first use.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * Reads every message and swaps in a new snapshot. Reloads are serialized,
+     * so the last one to finish also read the most recent state.
+     */
+    public synchronized Snapshot reload() {
+        Snapshot fresh = Snapshot.build(messageRepository.findAll(), objectMapper);
+        snapshot = fresh;
+        return fresh;
+    }
+
+    /**
+     * Re-reads one message and swaps in a snapshot where only its locale's
+     * messages and bundle are rebuilt.
+     */
+    public synchronized Snapshot refresh(String locale, String key) {
+        Snapshot current = snapshot();
+        Map<String, String> messages = new HashMap<>(current.messages(locale));
+        messageRepository.findByKeyAndLocale(key, locale).ifPresentOrElse(
+                message -> messages.put(key, message.getValue()),
+                () -> messages.remove(key));
+        Snapshot fresh = current.withLocale(locale, messages, objectMapper);
+        snapshot = fresh;
+        return fresh;
+    }
+
+    /**
+     * Re-reads every message of one locale, after a bulk change to it.
+     */
+    public synchronized Snapshot reloadLocale(String locale) {
+        Map<String, String> messages = new HashMap<>();
+        messageRepository.findByLocale(locale).forEach(message -> messages.put(message.getKey(), message.getValue()));
+        Snapshot fresh = snapshot().withLocale(locale, messages, objectMapper);
+        snapshot = fresh;
+        return fresh;
+    }
+
+    public static final class Snapshot {
+
+        private final Map<String, Map<String, String>> messagesByLocale;
+        private final Map<String, String> defaults;
+        private final Map<String, Bundle> bundlesByLocale;
+        private final Bundle emptyBundle;
+
+        private Snapshot(Map<String, Map<String, String>> messagesByLocale, Map<String, Bundle> bundlesByLocale,
+                Bundle emptyBundle) {
+            this.messagesByLocale = messagesByLocale;
+            this.defaults = messagesByLocale.getOrDefault(DEFAULT_LOCALE, Map.of());
+            this.bundlesByLocale = bundlesByLocale;
+            this.emptyBundle = emptyBundle;
+        }
+
+        static Snapshot build(List<LocalizationMessage> messages, ObjectMapper objectMapper) {
+            Map<String, Map<String, String>> byLocale = new HashMap<>();
+            for (LocalizationMessage message : messages) {
+                byLocale.computeIfAbsent(message.getLocale(), locale -> new HashMap<>())
+                        .put(message.getKey(), message.getValue());
+            }
+            Map<String, Bundle> bundles = new HashMap<>();
+            byLocale.forEach((locale, entries) -> bundles.put(locale, Bundle.of(objectMapper, entries)));
+            byLocale.replaceAll((locale, entries) -> Collections.unmodifiableMap(entries));
+            return new Snapshot(Collections.unmodifiableMap(byLocale), Collections.unmodifiableMap(bundles),
+                    Bundle.of(objectMapper, Map.of()));
+        }
+
+        /**
+         * A copy of this snapshot with one locale's messages replaced, and
+         * dropped when there are none left.
+         */
+        Snapshot withLocale(String locale, Map<String, String> messages, ObjectMapper objectMapper) {
+            Map<String, Map<String, String>> byLocale = new HashMap<>(messagesByLocale);
+            Map<String, Bundle> bundles = new HashMap<>(bundlesByLocale);
+            if (messages.isEmpty()) {
+                byLocale.remove(locale);
+                bundles.remove(locale);
+            } else {
+                byLocale.put(locale, Collections.unmodifiableMap(messages));
+                bundles.put(locale, Bundle.of(objectMapper, messages));
+            }
+            return new Snapshot(Collections.unmodifiableMap(byLocale), Collections.unmodifiableMap(bundles),
+                    emptyBundle);
+        }
+
+        /**
+         * The message in the locale, else in {@value #DEFAULT_LOCALE}, else the
+         * key itself.
+         */
+        public String message(String key, String locale) {
+            Map<String, String> messages = messagesByLocale.get(locale);
+            String value = messages != null ? messages.get(key) : null;
+            if (value == null) {
+                value = defaults.get(key);
+            }
+            return value != null ? value : key;
+        }
+
+        /**
+         * All messages of the locale, without fallback. The map is immutable
+         * and shared between requests.
+         */
+        public Map<String, String> messages(String locale) {
+            return messagesByLocale.getOrDefault(locale, Map.of());
+        }
+
+        /**
+         * The serialized messages of the locale, an empty object for a locale
+         * without messages.
+         */
+        public Bundle bundle(String locale) {
+            return bundlesByLocale.getOrDefault(locale, emptyBundle);
+        }
+
+        /**
+         * Current bundle version of every locale.
+         */
+        public Map<String, String> versions() {
+            Map<String, String> versions = new TreeMap<>();
+            bundlesByLocale.forEach((locale, bundle) -> versions.put(locale, bundle.version()));
+            return versions;
+        }
+    }
+
+    /**
+     * A locale's messages as JSON, with keys sorted so equal content always
+     * gives the same bytes and version. The arrays are shared between
+     * requests: write them out, never modify them.
+     */
+    public record Bundle(String version, byte[] json, byte[] gzipped) {
+
+        static Bundle of(ObjectMapper objectMapper, Map<String, String> messages) {
+            byte[] json;
+            try {
+                json = objectMapper.writeValueAsBytes(new TreeMap<>(messages));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize localization bundle", e);
+            }
+            return new Bundle(hash(json), json, gzip(json));
+        }
+
+        private static String hash(byte[] content) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+                return HexFormat.of().formatHex(digest, 0, 8);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        private static byte[] gzip(byte[] content) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 3 + 32);
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        }
+    }
+}
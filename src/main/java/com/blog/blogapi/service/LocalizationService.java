@@ -1,64 +1,204 @@
 package com.blog.blogapi.service;
 
-import java.util.List;
-import java.util.Optional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.blog.blogapi.dto.LocalizationImportResult;
+import com.blog.blogapi.exception.InvalidRequestException;
+import com.blog.blogapi.invalidation.CacheInvalidator;
+import com.blog.blogapi.invalidation.InvalidationEvent;
 import com.blog.blogapi.model.LocalizationMessage;
 import com.blog.blogapi.repository.LocalizationMessageRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
 @Transactional
 public class LocalizationService {
+    private static final int IMPORT_BATCH_SIZE = 500;
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int MAX_LOCALE_LENGTH = 10;
 
     private final LocalizationMessageRepository messageRepository;
+    private final LocalizationCatalog localizationCatalog;
+    private final CacheInvalidator cacheInvalidator;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public LocalizationService(LocalizationMessageRepository messageRepository) {
+    public LocalizationService(LocalizationMessageRepository messageRepository,
+            LocalizationCatalog localizationCatalog, CacheInvalidator cacheInvalidator, ObjectMapper objectMapper) {
         this.messageRepository = messageRepository;
+        this.localizationCatalog = localizationCatalog;
+        this.cacheInvalidator = cacheInvalidator;
+        this.objectMapper = objectMapper;
     }
 
-    @Cacheable(value = "localization", key = "#key + '_' + #locale")
+    // Lookups are answered from the in-memory catalog and never open a transaction.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String getMessage(String key, String locale) {
-        Optional<LocalizationMessage> message = messageRepository.findByKeyAndLocale(key, locale);
+        return localizationCatalog.snapshot().message(key, locale);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LocalizationCatalog.Bundle getBundle(String locale) {
+        return localizationCatalog.snapshot().bundle(locale);
+    }
 
-        if (message.isPresent()) {
-            return message.get().getValue();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, String> getBundleVersions() {
+        return localizationCatalog.snapshot().versions();
+    }
+
+    /**
+     * Saves a message and patches it into the catalog. An update that moves a
+     * message to another key or locale also drops it from the old one.
+     */
+    public LocalizationMessage saveMessage(LocalizationMessage message) {
+        if (message.getId() != null) {
+            messageRepository.findById(message.getId()).ifPresent(existing -> {
+                String locale = existing.getLocale();
+                String key = existing.getKey();
+                if (!Objects.equals(locale, message.getLocale()) || !Objects.equals(key, message.getKey())) {
+                    refreshCatalogAfterCommit(locale, key);
+                }
+            });
         }
+        LocalizationMessage saved = messageRepository.save(message);
+        refreshCatalogAfterCommit(saved.getLocale(), saved.getKey());
+        return saved;
+    }
 
-        // Fallback to default locale (English)
-        if (!"en".equals(locale)) {
-            Optional<LocalizationMessage> fallback = messageRepository.findByKeyAndLocale(key, "en");
-            if (fallback.isPresent()) {
-                return fallback.get().getValue();
+    public void deleteMessage(Long id) {
+        messageRepository.findById(id).ifPresent(message -> {
+            messageRepository.delete(message);
+            refreshCatalogAfterCommit(message.getLocale(), message.getKey());
+        });
+    }
+
+    /**
+     * Inserts or updates every message of a JSON object, nested like the
+     * frontend's locale files, with nested names joined by dots. The body is
+     * read as a stream and written in JDBC batches, all in one transaction,
+     * and the locale is reloaded once at the end.
+     */
+    public LocalizationImportResult importMessages(String locale, InputStream json) {
+        if (locale == null || locale.isBlank() || locale.length() > MAX_LOCALE_LENGTH) {
+            throw new InvalidRequestException("Invalid locale: " + locale);
+        }
+        int imported = 0;
+        Map<String, String> batch = new LinkedHashMap<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new InvalidRequestException("Expected a JSON object of messages");
             }
+            Deque<String> path = new ArrayDeque<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                switch (token) {
+                    case FIELD_NAME -> {
+                        // The name is read together with its value
+                    }
+                    case START_OBJECT -> path.addLast(parser.currentName());
+                    case END_OBJECT -> path.pollLast();
+                    case START_ARRAY -> throw new InvalidRequestException(
+                            "Arrays are not supported: " + messageKey(path, parser.currentName()));
+                    default -> {
+                        String key = messageKey(path, parser.currentName());
+                        batch.put(key, messageValue(key, parser));
+                        imported++;
+                        if (batch.size() == IMPORT_BATCH_SIZE) {
+                            messageRepository.upsertMessages(locale, batch);
+                            batch.clear();
+                        }
+                    }
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Malformed JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        messageRepository.upsertMessages(locale, batch);
+        TransactionCallbacks.afterCommit(() -> {
+            localizationCatalog.reloadLocale(locale);
+            cacheInvalidator.publish(InvalidationEvent.LOCALIZATION, InvalidationEvent.localizationKey(locale, null));
+        });
 
-        // Return key if no translation found
-        return key;
+        LocalizationImportResult result = new LocalizationImportResult();
+        result.setLocale(locale);
+        result.setMessages(imported);
+        return result;
     }
 
-    @Cacheable(value = "localization-all", key = "#locale")
-    public List<LocalizationMessage> getAllMessages(String locale) {
-        return messageRepository.findByLocale(locale);
+    /**
+     * Writes the messages of a locale as a JSON object in the shape
+     * {@link #importMessages} reads, nesting on dots. A message whose name is
+     * also the parent of other names keeps those names flat.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportMessages(String locale, OutputStream out) throws IOException {
+        Map<String, Object> root = new TreeMap<>();
+        // Sorted, a name always comes before the names it is a prefix of
+        new TreeMap<>(localizationCatalog.snapshot().messages(locale)).forEach((key, value) -> nest(root, key, value));
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, root);
     }
 
-    @CacheEvict(value = { "localization", "localization-all" }, allEntries = true)
-    public LocalizationMessage saveMessage(LocalizationMessage message) {
-        return messageRepository.save(message);
+    public boolean messageExists(String key, String locale) {
+        return messageRepository.existsByKeyAndLocale(key, locale);
     }
 
-    @CacheEvict(value = { "localization", "localization-all" }, allEntries = true)
-    public void deleteMessage(Long id) {
-        messageRepository.deleteById(id);
+    private static String messageKey(Deque<String> path, String name) {
+        return path.isEmpty() ? name : String.join(".", path) + "." + name;
     }
 
-    public boolean messageExists(String key, String locale) {
-        return messageRepository.existsByKeyAndLocale(key, locale);
+    private static String messageValue(String key, JsonParser parser) throws IOException {
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("Message key is longer than " + MAX_KEY_LENGTH + " characters: " + key);
+        }
+        String value = parser.getValueAsString();
+        if (value == null || value.isBlank()) {
+            throw new InvalidRequestException("Message value cannot be blank: " + key);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void nest(Map<String, Object> root, String key, String value) {
+        String[] parts = key.split("\\.", -1);
+        Map<String, Object> node = root;
+        for (int i = 0; i < parts.length - 1; i++) {
+            Object child = node.computeIfAbsent(parts[i], name -> new TreeMap<String, Object>());
+            if (!(child instanceof Map)) {
+                node.put(String.join(".", Arrays.copyOfRange(parts, i, parts.length)), value);
+                return;
+            }
+            node = (Map<String, Object>) child;
+        }
+        if (node.putIfAbsent(parts[parts.length - 1], value) != null) {
+            root.put(key, value);
+        }
+    }
+
+    private void refreshCatalogAfterCommit(String locale, String key) {
+        TransactionCallbacks.afterCommit(() -> {
+            localizationCatalog.refresh(locale, key);
+            cacheInvalidator.publish(InvalidationEvent.LOCALIZATION, InvalidationEvent.localizationKey(locale, key));
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.blog.blogapi.service;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.blog.blogapi.dto.PostResponse;
+import com.blog.blogapi.dto.TagResponse;
+import com.blog.blogapi.model.Post;
+import com.blog.blogapi.model.Tag;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Maps a post with its author and tags to a {@link PostResponse}, timed as
+ * {@code post.response.mapping}.
+ */
+@Component
+public class PostResponseMapper {
+
+    private final Timer timer;
+
+    public PostResponseMapper(MeterRegistry meterRegistry) {
+        this.timer = Timer.builder("post.response.mapping")
+                .description("Time to map a post, its author and tags to a PostResponse")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public PostResponse toPostResponse(Post post) {
+        return timer.record(() -> map(post));
+    }
+
+    private static PostResponse map(Post post) {
+        PostResponse dto = new PostResponse();
+        dto.setId(post.getId());
+        dto.setTitle(post.getTitle());
+        dto.setContent(post.getContent());
+        dto.setCreatedAt(post.getCreatedAt());
+
+        if (post.hasAuthor()) {
+            dto.setAuthorId(post.getAuthorId());
+            dto.setAuthorUsername(post.getAuthorUsername());
+        }
+        Set<Tag> tags = post.getTags();
+        if (tags != null && !tags.isEmpty()) {
+            List<TagResponse> tagResponses = tags.stream()
+                    .map(tag -> {
+                        TagResponse tagResponse = new TagResponse();
+                        tagResponse.setId(tag.getId());
+                        tagResponse.setName(tag.getName());
+                        return tagResponse;
+                    })
+                    .toList();
+            dto.setTags(tagResponses);
+        } else {
+            dto.setTags(List.of());
+        }
+        return dto;
+    }
+}
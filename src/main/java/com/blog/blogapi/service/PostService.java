@@ -2,34 +2,67 @@ package com.blog.blogapi.service;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.blog.blogapi.config.CacheConfig;
+import com.blog.blogapi.dto.CursorPage;
 import com.blog.blogapi.dto.PostRequest;
 import com.blog.blogapi.dto.PostResponse;
+import com.blog.blogapi.dto.PostSummary;
+import com.blog.blogapi.exception.InvalidRequestException;
 import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.CacheInvalidator;
+import com.blog.blogapi.invalidation.InvalidationEvent;
 import com.blog.blogapi.model.Post;
 import com.blog.blogapi.model.Tag;
 import com.blog.blogapi.model.User;
 import com.blog.blogapi.repository.PostRepository;
+import com.blog.blogapi.repository.PostSummaryProjection;
+import com.blog.blogapi.repository.PostTagLink;
 import com.blog.blogapi.repository.TagRepository;
+import com.blog.blogapi.search.PostSearchIndex;
+import com.blog.blogapi.search.PostTagIndex;
+import com.blog.blogapi.search.SnippetBuilder;
 
 @Service
 @Transactional
 public class PostService {
+    private static final int MAX_TAG_FILTERS = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    static final int EXCERPT_LENGTH = 200;
+
     private final PostRepository postRepository;
     private final TagRepository tagRepository;
     private final AuthorizationService authorizationService;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTagIndex postTagIndex;
+    private final CacheInvalidator cacheInvalidator;
+    private final PostResponseMapper postResponseMapper;
 
     public PostService(PostRepository postRepository, TagRepository tagRepository,
-            AuthorizationService authorizationService) {
+            AuthorizationService authorizationService, PostSearchIndex postSearchIndex, PostTagIndex postTagIndex,
+            CacheInvalidator cacheInvalidator, PostResponseMapper postResponseMapper) {
         this.postRepository = postRepository;
         this.tagRepository = tagRepository;
         this.authorizationService = authorizationService;
+        this.postSearchIndex = postSearchIndex;
+        this.postTagIndex = postTagIndex;
+        this.cacheInvalidator = cacheInvalidator;
+        this.postResponseMapper = postResponseMapper;
     }
 
     public PostResponse createPost(PostRequest request) {
@@ -48,9 +81,12 @@ public class PostService {
         }
 
         Post saved = postRepository.save(post);
+        adjustTagCounts(Set.of(), tagIdsOf(saved));
+        indexAfterCommit(saved);
         return toPostResponse(saved);
     }
 
+    @Cacheable(value = CacheConfig.POSTS, key = "#id")
     public PostResponse getPostById(Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "id", id));
@@ -62,68 +98,224 @@ public class PostService {
                 .map(this::toPostResponse);
     }
 
+    public CursorPage<PostResponse> getPostsAfter(String cursor, int size) {
+        long afterId = CursorCodec.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Slice<Post> slice = postRepository.findByIdLessThanOrderByIdDesc(afterId, PageRequest.of(0, pageSize));
+
+        CursorPage<PostResponse> result = new CursorPage<>();
+        result.setContent(slice.map(this::toPostResponse).getContent());
+        result.setSize(pageSize);
+        result.setHasNext(slice.hasNext());
+        if (slice.hasNext()) {
+            List<Post> posts = slice.getContent();
+            result.setNextCursor(CursorCodec.encode(posts.get(posts.size() - 1).getId()));
+        }
+        return result;
+    }
+
     public Page<PostResponse> searchPosts(String searchTerm, Pageable pageable) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return getAllPosts(pageable);
         }
-        return postRepository.searchPosts(searchTerm.trim(), pageable)
-                .map(this::toPostResponse);
+        List<Long> ids = postSearchIndex.search(searchTerm);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new PageImpl<>(hydrate(ids.subList(from, to), post -> toSearchHit(post, searchTerm)), pageable,
+                ids.size());
     }
 
-    public List<PostResponse> getPostsByUser(Long userId) {
-        return postRepository.findByAuthor_Id(userId).stream()
-                .map(this::toPostResponse)
-                .toList();
+    /**
+     * Lists posts carrying all ({@code match=all}) or any ({@code match=any}) of
+     * the given tags, newest first, from the in-memory tag bitmaps.
+     */
+    public Page<PostResponse> getPostsByTags(List<Long> tagIds, String match, int page, int size) {
+        if (tagIds == null || tagIds.isEmpty() || tagIds.size() > MAX_TAG_FILTERS) {
+            throw new InvalidRequestException("Between 1 and " + MAX_TAG_FILTERS + " tags are required");
+        }
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        PostTagIndex.Result result = postTagIndex.match(tagIds, parseMatchAll(match));
+        List<Long> ids = result.page(pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(hydrate(ids, this::toPostResponse), pageable, result.total());
+    }
+
+    private static boolean parseMatchAll(String match) {
+        if (match == null || "all".equalsIgnoreCase(match)) {
+            return true;
+        }
+        if ("any".equalsIgnoreCase(match)) {
+            return false;
+        }
+        throw new InvalidRequestException("match must be 'all' or 'any'");
+    }
+
+    /**
+     * The user's posts newest first, as summaries: one range scan over the
+     * author index for the page and one lookup for the tag ids of its posts.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> getPostsByUser(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        CursorCodec.Position after = CursorCodec.decodePosition(cursor);
+        List<PostSummaryProjection> rows = after == null
+                ? postRepository.findSummariesByAuthor(userId, EXCERPT_LENGTH + 1, limit)
+                : postRepository.findSummariesByAuthorBefore(userId, after.createdAt(), after.id(),
+                        EXCERPT_LENGTH + 1, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PostSummaryProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<Long, List<Long>> tagIds = page.isEmpty() ? Map.of()
+                : postRepository.findTagLinksByPostIds(page.stream().map(PostSummaryProjection::getId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(PostTagLink::getPostId,
+                                Collectors.mapping(PostTagLink::getTagId, Collectors.toList())));
+
+        CursorPage<PostSummary> result = new CursorPage<>();
+        result.setContent(page.stream().map(row -> toPostSummary(row, tagIds)).toList());
+        result.setSize(pageSize);
+        result.setHasNext(hasNext);
+        if (hasNext) {
+            PostSummaryProjection last = page.get(pageSize - 1);
+            result.setNextCursor(CursorCodec.encode(last.getCreatedAt(), last.getId()));
+        }
+        return result;
     }
 
+    private static PostSummary toPostSummary(PostSummaryProjection row, Map<Long, List<Long>> tagIds) {
+        PostSummary summary = new PostSummary();
+        summary.setId(row.getId());
+        summary.setTitle(row.getTitle());
+        summary.setExcerpt(excerpt(row.getExcerpt()));
+        summary.setCreatedAt(row.getCreatedAt());
+        summary.setTagIds(tagIds.getOrDefault(row.getId(), List.of()));
+        return summary;
+    }
+
+    /**
+     * The query returns one character more than an excerpt holds, so a longer
+     * text is recognised and cut back to the last whole word.
+     */
+    static String excerpt(String text) {
+        if (text == null || text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        String cut = text.substring(0, EXCERPT_LENGTH);
+        int lastSpace = cut.lastIndexOf(' ');
+        if (lastSpace > EXCERPT_LENGTH / 2) {
+            cut = cut.substring(0, lastSpace);
+        }
+        return cut.stripTrailing() + "...";
+    }
+
+    @CacheEvict(value = CacheConfig.POSTS, key = "#id")
     public PostResponse updatePost(Long id, PostRequest request) {
-        authorizationService.checkPostOwnerOrAdmin(id);
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", id));
+        Post post = authorizationService.getPostForModificationOrThrow(id);
+        Set<Long> previousTagIds = tagIdsOf(post);
 
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
-        if (request.getTagIds() != null && !request.getTagIds().isEmpty()) {
-            List<Tag> tags = tagRepository.findAllById(request.getTagIds());
-            post.setTags(new HashSet<>(tags));
-        } else {
-            post.setTags(new HashSet<>());
-        }
+        Set<Long> requestedTagIds = request.getTagIds() != null ? new HashSet<>(request.getTagIds()) : Set.of();
+        applyTagChanges(post, previousTagIds, requestedTagIds);
         Post updated = postRepository.save(post);
+        adjustTagCounts(previousTagIds, tagIdsOf(updated));
+        indexAfterCommit(updated);
         return toPostResponse(updated);
     }
 
+    @CacheEvict(value = CacheConfig.POSTS, key = "#id")
     public void deletePost(Long id) {
         authorizationService.checkPostOwnerOrAdmin(id);
 
-        postRepository.deleteById(id);
+        tagRepository.decrementPostCountsOfPost(id);
+        postRepository.deleteTagLinksByPostId(id);
+        postRepository.deletePostById(id);
+        TransactionCallbacks.afterCommit(() -> {
+            postSearchIndex.remove(id);
+            postTagIndex.remove(id);
+            cacheInvalidator.publish(InvalidationEvent.POSTS, id);
+        });
     }
 
-    private PostResponse toPostResponse(Post post) {
-        PostResponse dto = new PostResponse();
-        dto.setId(post.getId());
-        dto.setTitle(post.getTitle());
-        dto.setContent(post.getContent());
-        dto.setCreatedAt(post.getCreatedAt());
-
-        if (post.hasAuthor()) {
-            dto.setAuthorId(post.getAuthorId());
-            dto.setAuthorUsername(post.getAuthorUsername());
+    /**
+     * Edits the managed tag collection in place rather than replacing it, so
+     * Hibernate writes only the post_tags rows that changed instead of
+     * deleting and re-inserting all of them. Only newly added tags are looked
+     * up.
+     */
+    private void applyTagChanges(Post post, Set<Long> previousTagIds, Set<Long> requestedTagIds) {
+        if (requestedTagIds.equals(previousTagIds)) {
+            return;
         }
-        Set<Tag> tags = post.getTags();
-        if (tags != null && !tags.isEmpty()) {
-            List<com.blog.blogapi.dto.TagResponse> tagResponses = tags.stream()
-                    .map(tag -> {
-                        com.blog.blogapi.dto.TagResponse tagResponse = new com.blog.blogapi.dto.TagResponse();
-                        tagResponse.setId(tag.getId());
-                        tagResponse.setName(tag.getName());
-                        return tagResponse;
-                    })
-                    .toList();
-            dto.setTags(tagResponses);
-        } else {
-            dto.setTags(List.of());
+        post.getTags().removeIf(tag -> !requestedTagIds.contains(tag.getId()));
+        Set<Long> addedTagIds = new HashSet<>(requestedTagIds);
+        addedTagIds.removeAll(previousTagIds);
+        if (!addedTagIds.isEmpty()) {
+            post.getTags().addAll(tagRepository.findAllById(addedTagIds));
+        }
+    }
+
+    /**
+     * Moves the per-tag post counters by the difference between two tag sets,
+     * in the same transaction as the post write.
+     */
+    private void adjustTagCounts(Set<Long> before, Set<Long> after) {
+        Set<Long> added = new HashSet<>(after);
+        added.removeAll(before);
+        Set<Long> removed = new HashSet<>(before);
+        removed.removeAll(after);
+        if (!added.isEmpty()) {
+            tagRepository.adjustPostCounts(added, 1);
+        }
+        if (!removed.isEmpty()) {
+            tagRepository.adjustPostCounts(removed, -1);
         }
+    }
+
+    private static Set<Long> tagIdsOf(Post post) {
+        return post.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+    }
+
+    private void indexAfterCommit(Post post) {
+        Long id = post.getId();
+        String title = post.getTitle();
+        String content = post.getContent();
+        List<Long> tagIds = post.getTags().stream().map(Tag::getId).toList();
+        TransactionCallbacks.afterCommit(() -> {
+            postSearchIndex.index(id, title, content);
+            postTagIndex.index(id, tagIds);
+            cacheInvalidator.publish(InvalidationEvent.POSTS, id);
+        });
+    }
+
+    /**
+     * Loads the given posts in one query and returns them in the order of
+     * {@code ids}, skipping any that were deleted in the meantime.
+     */
+    private List<PostResponse> hydrate(List<Long> ids, Function<Post, PostResponse> mapper) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> postsById = postRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(mapper)
+                .toList();
+    }
+
+    /**
+     * Search hits carry a highlighted excerpt instead of the full body.
+     */
+    private PostResponse toSearchHit(Post post, String searchTerm) {
+        PostResponse dto = toPostResponse(post);
+        dto.setSnippet(SnippetBuilder.build(post.getContent(), searchTerm));
+        dto.setContent(null);
         return dto;
     }
-}
\ No newline at end of file
+
+    private PostResponse toPostResponse(Post post) {
+        return postResponseMapper.toPostResponse(post);
+    }
+}
@@ -0,0 +1,215 @@
+package com.blog.blogapi.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.blog.blogapi.config.CacheConfig;
+import com.blog.blogapi.dto.TagBulkRenameRequest;
+import com.blog.blogapi.dto.TagBulkResult;
+import com.blog.blogapi.exception.InvalidRequestException;
+import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.CacheInvalidator;
+import com.blog.blogapi.invalidation.InvalidationEvent;
+import com.blog.blogapi.model.Tag;
+import com.blog.blogapi.repository.PostRepository;
+import com.blog.blogapi.repository.TagRepository;
+import com.blog.blogapi.search.PostTagIndex;
+
+/**
+ * Merges, deletes and renames many tags at once. Links in {@code post_tags}
+ * are rewritten with set-based statements, a bounded batch of posts per
+ * transaction, so no transaction holds row locks for long and the association
+ * is never loaded into memory. Caches, the tag catalog and the tag index are
+ * refreshed once, after the last batch.
+ * <p>
+ * The tags are deleted in a final transaction that first locks their rows, so
+ * no new link to them can be inserted, and then relinks whatever was linked
+ * after the batches had passed. The delete therefore never hits a foreign key.
+ */
+@Service
+public class TagBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagBulkService.class);
+
+    private final TagRepository tagRepository;
+    private final PostRepository postRepository;
+    private final AuthorizationService authorizationService;
+    private final CacheManager cacheManager;
+    private final TagCatalog tagCatalog;
+    private final PostTagIndex postTagIndex;
+    private final CacheInvalidator cacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TagBulkService(TagRepository tagRepository, PostRepository postRepository,
+            AuthorizationService authorizationService, CacheManager cacheManager, TagCatalog tagCatalog,
+            PostTagIndex postTagIndex, CacheInvalidator cacheInvalidator, PlatformTransactionManager transactionManager,
+            @Value("${tags.bulk.batch-size:1000}") int batchSize) {
+        this.tagRepository = tagRepository;
+        this.postRepository = postRepository;
+        this.authorizationService = authorizationService;
+        this.cacheManager = cacheManager;
+        this.tagCatalog = tagCatalog;
+        this.postTagIndex = postTagIndex;
+        this.cacheInvalidator = cacheInvalidator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Moves every post of the source tags onto the target tag, then deletes the
+     * source tags. Posts that already carry the target keep a single link.
+     */
+    public TagBulkResult mergeTags(List<Long> sourceIds, Long targetId) {
+        authorizationService.checkAdmin();
+        Set<Long> sources = new LinkedHashSet<>(sourceIds);
+        sources.remove(targetId);
+        if (sources.isEmpty()) {
+            throw new InvalidRequestException("Merge needs at least one source tag other than the target");
+        }
+        Set<Long> all = new LinkedHashSet<>(sources);
+        all.add(targetId);
+        requireExisting(all);
+
+        Consumer<List<Long>> change = postIds -> {
+            postRepository.copyTagLinks(sources, targetId, postIds);
+            postRepository.deleteTagLinks(sources, postIds);
+        };
+        TagBulkResult result = relink(sources, "merge into " + targetId, change);
+        transactionTemplate.executeWithoutResult(status -> {
+            relinkRemaining(sources, change, result);
+            tagRepository.deleteByIdIn(sources);
+            tagRepository.recountPostCount(targetId);
+        });
+        result.setTags(sources.size());
+
+        postTagIndex.mergeTags(sources, targetId);
+        refreshAfterBulkChange();
+        return result;
+    }
+
+    /**
+     * Unlinks the tags from all their posts, then deletes them.
+     */
+    public TagBulkResult deleteTags(List<Long> ids) {
+        authorizationService.checkAdmin();
+        Set<Long> tagIds = new LinkedHashSet<>(ids);
+        requireExisting(tagIds);
+
+        Consumer<List<Long>> change = postIds -> postRepository.deleteTagLinks(tagIds, postIds);
+        TagBulkResult result = relink(tagIds, "delete", change);
+        transactionTemplate.executeWithoutResult(status -> {
+            relinkRemaining(tagIds, change, result);
+            tagRepository.deleteByIdIn(tagIds);
+        });
+        result.setTags(tagIds.size());
+
+        tagIds.forEach(postTagIndex::removeTag);
+        refreshAfterBulkChange();
+        return result;
+    }
+
+    /**
+     * Renames the tags in one transaction. Only the tag rows change, and
+     * Hibernate sends the updates in JDBC batches.
+     */
+    public TagBulkResult renameTags(List<TagBulkRenameRequest.Rename> renames) {
+        authorizationService.checkAdmin();
+        Map<Long, String> namesById = new HashMap<>();
+        renames.forEach(rename -> namesById.put(rename.getId(), rename.getName()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Tag> tags = tagRepository.findAllById(namesById.keySet());
+            requireAllFound(namesById.keySet(), tags);
+            tags.forEach(tag -> tag.setName(namesById.get(tag.getId())));
+        });
+
+        refreshAfterBulkChange();
+        TagBulkResult result = new TagBulkResult();
+        result.setTags(namesById.size());
+        return result;
+    }
+
+    /**
+     * Applies the change to the links of the tags one batch of posts at a time,
+     * each batch in its own transaction. The change must remove the links it
+     * was given, otherwise the loop would see the same posts again.
+     */
+    private TagBulkResult relink(Set<Long> tagIds, String operation, Consumer<List<Long>> change) {
+        TagBulkResult result = new TagBulkResult();
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> relinkBatch(tagIds, change));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            result.setPosts(result.getPosts() + moved);
+            result.setBatches(result.getBatches() + 1);
+            logger.info("Tag {} of {}: {} posts relinked in {} batches", operation, tagIds, result.getPosts(),
+                    result.getBatches());
+        }
+        return result;
+    }
+
+    /**
+     * Locks the tag rows and applies the change to the links added since the
+     * batches passed, inside the caller's transaction. A post linking one of
+     * the tags now waits for the lock and then fails on the deleted tag.
+     */
+    private void relinkRemaining(Set<Long> tagIds, Consumer<List<Long>> change, TagBulkResult result) {
+        tagRepository.lockByIdIn(tagIds);
+        int moved;
+        while ((moved = relinkBatch(tagIds, change)) > 0) {
+            result.setPosts(result.getPosts() + moved);
+            result.setBatches(result.getBatches() + 1);
+        }
+    }
+
+    private int relinkBatch(Set<Long> tagIds, Consumer<List<Long>> change) {
+        List<Long> postIds = postRepository.findPostIdsTaggedAny(tagIds, batchSize);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        change.accept(postIds);
+        return postIds.size();
+    }
+
+    private void requireExisting(Set<Long> ids) {
+        requireAllFound(ids, tagRepository.findAllById(ids));
+    }
+
+    private static void requireAllFound(Set<Long> ids, List<Tag> found) {
+        if (found.size() == ids.size()) {
+            return;
+        }
+        Set<Long> missing = new LinkedHashSet<>(ids);
+        found.forEach(tag -> missing.remove(tag.getId()));
+        throw new ResourceNotFoundException("Tag", "id", missing.iterator().next());
+    }
+
+    /**
+     * Cached posts embed tag names, and a bulk change may touch most of them,
+     * so the whole cache goes at once instead of post by post. Other nodes
+     * are told to do the same.
+     */
+    private void refreshAfterBulkChange() {
+        Cache posts = cacheManager.getCache(CacheConfig.POSTS);
+        if (posts != null) {
+            posts.clear();
+        }
+        tagCatalog.reload();
+        cacheInvalidator.publish(InvalidationEvent.TAGS, null);
+    }
+}
@@ -0,0 +1,200 @@
+package com.blog.blogapi.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.blog.blogapi.dto.TagResponse;
+import com.blog.blogapi.model.Tag;
+import com.blog.blogapi.repository.TagRepository;
+import com.blog.blogapi.search.TextAnalyzer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Holds the whole tag catalog in memory as an immutable snapshot. Reads never
+ * touch the database. A write builds a new snapshot and swaps it in atomically,
+ * so readers always see a complete catalog, either the old one or the new one.
+ */
+@Component
+public class TagCatalog {
+
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+    private volatile Snapshot snapshot;
+
+    public TagCatalog(TagRepository tagRepository, ObjectMapper objectMapper) {
+        this.tagRepository = tagRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the current snapshot, loading it on first use.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * Reads every tag and swaps in a new snapshot. Reloads are serialized, so
+     * the last one to finish also read the most recent state.
+     */
+    public synchronized Snapshot reload() {
+        Snapshot fresh = Snapshot.build(tagRepository.findAll(), objectMapper);
+        snapshot = fresh;
+        return fresh;
+    }
+
+    /**
+     * Re-reads one tag and swaps in a snapshot with it renamed, added or
+     * removed. The other tags come from the current snapshot, not the
+     * database.
+     */
+    public synchronized Snapshot refresh(Long id) {
+        Map<Long, String> names = new HashMap<>(snapshot().namesById);
+        tagRepository.findById(id).ifPresentOrElse(
+                tag -> names.put(id, tag.getName()),
+                () -> names.remove(id));
+        Snapshot fresh = Snapshot.build(names, objectMapper);
+        snapshot = fresh;
+        return fresh;
+    }
+
+    public static final class Snapshot {
+
+        private final Map<Long, String> namesById;
+        private final Map<String, Long> idsByName;
+        private final byte[] json;
+        private final Map<Long, byte[]> jsonById;
+        private final String[] foldedNames;
+        private final long[] foldedNameIds;
+
+        private Snapshot(Map<Long, String> namesById, Map<String, Long> idsByName, byte[] json,
+                Map<Long, byte[]> jsonById) {
+            this.namesById = namesById;
+            this.idsByName = idsByName;
+            this.json = json;
+            this.jsonById = jsonById;
+
+            List<Map.Entry<String, Long>> byFoldedName = new ArrayList<>(namesById.size());
+            namesById.forEach((id, name) -> byFoldedName.add(Map.entry(TextAnalyzer.fold(name), id)));
+            byFoldedName.sort(Map.Entry.<String, Long>comparingByKey().thenComparing(Map.Entry.comparingByValue()));
+            this.foldedNames = new String[byFoldedName.size()];
+            this.foldedNameIds = new long[byFoldedName.size()];
+            for (int i = 0; i < byFoldedName.size(); i++) {
+                foldedNames[i] = byFoldedName.get(i).getKey();
+                foldedNameIds[i] = byFoldedName.get(i).getValue();
+            }
+        }
+
+        static Snapshot build(List<Tag> tags, ObjectMapper objectMapper) {
+            Map<Long, String> names = new HashMap<>();
+            tags.forEach(tag -> names.put(tag.getId(), tag.getName()));
+            return build(names, objectMapper);
+        }
+
+        private static Snapshot build(Map<Long, String> names, ObjectMapper objectMapper) {
+            List<Long> sortedIds = new ArrayList<>(names.keySet());
+            sortedIds.sort(Comparator.naturalOrder());
+
+            Map<Long, String> namesById = new LinkedHashMap<>();
+            Map<String, Long> idsByName = new HashMap<>();
+            Map<Long, byte[]> jsonById = new HashMap<>();
+            List<TagResponse> responses = new ArrayList<>(sortedIds.size());
+            for (Long id : sortedIds) {
+                String name = names.get(id);
+                namesById.put(id, name);
+                idsByName.putIfAbsent(name, id);
+                TagResponse response = toTagResponse(id, name);
+                responses.add(response);
+                jsonById.put(id, write(objectMapper, response));
+            }
+            return new Snapshot(Collections.unmodifiableMap(namesById), Collections.unmodifiableMap(idsByName),
+                    write(objectMapper, responses), Collections.unmodifiableMap(jsonById));
+        }
+
+        public int size() {
+            return namesById.size();
+        }
+
+        public Optional<String> nameOf(Long id) {
+            return Optional.ofNullable(namesById.get(id));
+        }
+
+        public Optional<Long> idOf(String name) {
+            return Optional.ofNullable(idsByName.get(name));
+        }
+
+        /**
+         * Ids of the tags whose name starts with the prefix, ignoring case and
+         * diacritics the same way post search does. Found by binary search over
+         * the folded names, so the cost follows the number of matches.
+         */
+        public List<Long> idsWithPrefix(String prefix) {
+            String folded = TextAnalyzer.fold(prefix.trim());
+            int index = Arrays.binarySearch(foldedNames, folded);
+            if (index < 0) {
+                index = -index - 1;
+            } else {
+                while (index > 0 && foldedNames[index - 1].equals(folded)) {
+                    index--;
+                }
+            }
+            List<Long> ids = new ArrayList<>();
+            while (index < foldedNames.length && foldedNames[index].startsWith(folded)) {
+                ids.add(foldedNameIds[index]);
+                index++;
+            }
+            return ids;
+        }
+
+        public Optional<TagResponse> find(Long id) {
+            return nameOf(id).map(name -> toTagResponse(id, name));
+        }
+
+        /**
+         * Returns fresh response objects, so callers cannot alter the snapshot.
+         */
+        public List<TagResponse> tags() {
+            return namesById.entrySet().stream()
+                    .map(entry -> toTagResponse(entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+
+        /**
+         * The serialized tag list. Shared between requests: write it out, never
+         * modify it.
+         */
+        public byte[] json() {
+            return json;
+        }
+
+        public Optional<byte[]> json(Long id) {
+            return Optional.ofNullable(jsonById.get(id));
+        }
+
+        private static TagResponse toTagResponse(Long id, String name) {
+            TagResponse dto = new TagResponse();
+            dto.setId(id);
+            dto.setName(name);
+            return dto;
+        }
+
+        private static byte[] write(ObjectMapper objectMapper, Object value) {
+            try {
+                return objectMapper.writeValueAsBytes(value);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize tag catalog", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.blog.blogapi.service;
+
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.blog.blogapi.repository.TagRepository;
+
+/**
+ * Periodically recounts the per-tag post counters from {@code post_tags}, so any
+ * drift, for example from manual SQL or a bulk import, does not persist. It
+ * also runs once after startup, which fills the counters of tags that existed
+ * before the column was added.
+ */
+@Component
+public class TagCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagCountReconciler.class);
+
+    private final TagRepository tagRepository;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    public TagCountReconciler(TagRepository tagRepository, TaskScheduler taskScheduler,
+            PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.taskScheduler = taskScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Hands the startup pass to the scheduler thread, so it does not hold up
+     * the other ready listeners.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        taskScheduler.schedule(this::reconcile, Instant.now());
+    }
+
+    @Scheduled(cron = "${tags.count-reconcile.cron:0 17 3 * * *}")
+    public int reconcile() {
+        Integer result = transactionTemplate.execute(status ->
+                tagRepository.reconcileLinkedPostCounts() + tagRepository.zeroUnlinkedPostCounts());
+        int repaired = result != null ? result : 0;
+        if (repaired > 0) {
+            logger.warn("Repaired post counts of {} tags", repaired);
+        } else {
+            logger.debug("Tag post counts are consistent");
+        }
+        return repaired;
+    }
+}
@@ -1,25 +1,48 @@
 package com.blog.blogapi.service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.blog.blogapi.config.CacheConfig;
 import com.blog.blogapi.dto.TagRequest;
 import com.blog.blogapi.dto.TagResponse;
 import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.CacheInvalidator;
+import com.blog.blogapi.invalidation.InvalidationEvent;
 import com.blog.blogapi.model.Tag;
 import com.blog.blogapi.repository.TagRepository;
+import com.blog.blogapi.search.PostTagIndex;
 
 @Service
 @Transactional
 public class TagService {
+    private static final int MAX_TAG_CLOUD_SIZE = 200;
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final TagRepository tagRepository;
     private final AuthorizationService authorizationService;
+    private final CacheManager cacheManager;
+    private final TagCatalog tagCatalog;
+    private final PostTagIndex postTagIndex;
+    private final CacheInvalidator cacheInvalidator;
 
-    public TagService(TagRepository tagRepository, AuthorizationService authorizationService) {
+    public TagService(TagRepository tagRepository, AuthorizationService authorizationService,
+            CacheManager cacheManager, TagCatalog tagCatalog, PostTagIndex postTagIndex,
+            CacheInvalidator cacheInvalidator) {
         this.tagRepository = tagRepository;
         this.authorizationService = authorizationService;
+        this.cacheManager = cacheManager;
+        this.tagCatalog = tagCatalog;
+        this.postTagIndex = postTagIndex;
+        this.cacheInvalidator = cacheInvalidator;
     }
 
     public TagResponse createTag(TagRequest request) {
@@ -27,18 +50,84 @@ public class TagService {
         Tag tag = new Tag();
         tag.setName(request.getName());
         Tag saved = tagRepository.save(tag);
+        refreshCatalogAfterCommit(saved.getId());
         return toTagResponse(saved);
     }
 
+    // Catalog reads stay outside a transaction so they never borrow a connection.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TagResponse getTagById(Long id) {
-        Tag tag = tagRepository.findById(id)
+        return tagCatalog.snapshot().find(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", id));
-        return toTagResponse(tag);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<TagResponse> getAllTags() {
-        return tagRepository.findAll().stream()
-                .map(this::toTagResponse)
+        return tagCatalog.snapshot().tags();
+    }
+
+    /**
+     * The tag with the given id as JSON, pre-serialized in the catalog.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public byte[] getTagJson(Long id) {
+        return tagCatalog.snapshot().json(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", id));
+    }
+
+    /**
+     * All tags as a JSON array, pre-serialized in the catalog.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public byte[] getAllTagsJson() {
+        return tagCatalog.snapshot().json();
+    }
+
+    /**
+     * Tags whose name starts with the prefix, most used first. Served from the
+     * catalog and the tag bitmaps without touching the database.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TagResponse> suggestTags(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        TagCatalog.Snapshot snapshot = tagCatalog.snapshot();
+        List<Long> candidates = snapshot.idsWithPrefix(prefix);
+        Map<Long, Integer> counts = postTagIndex.postCounts(candidates);
+        int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return candidates.stream()
+                .map(id -> {
+                    TagResponse dto = new TagResponse();
+                    dto.setId(id);
+                    dto.setName(snapshot.nameOf(id).orElseThrow());
+                    dto.setPostCount(counts.getOrDefault(id, 0));
+                    return dto;
+                })
+                .sorted(Comparator.comparing(TagResponse::getPostCount).reversed()
+                        .thenComparing(TagResponse::getName))
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * All tags with their post counts, read from the denormalized counters.
+     */
+    @Transactional(readOnly = true)
+    public List<TagResponse> getAllTagsWithCounts() {
+        return tagRepository.findAllByOrderByIdAsc().stream()
+                .map(this::toTagResponseWithCount)
+                .toList();
+    }
+
+    /**
+     * The most used tags, most posts first.
+     */
+    @Transactional(readOnly = true)
+    public List<TagResponse> getTagCloud(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_TAG_CLOUD_SIZE));
+        return tagRepository.findTagCloud(PageRequest.of(0, size)).stream()
+                .map(this::toTagResponseWithCount)
                 .toList();
     }
 
@@ -48,6 +137,8 @@ public class TagService {
                 .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", id));
         tag.setName(request.getName());
         Tag updated = tagRepository.save(tag);
+        clearCachedPosts();
+        refreshCatalogAfterCommit(id);
         return toTagResponse(updated);
     }
 
@@ -56,7 +147,29 @@ public class TagService {
         if (!tagRepository.existsById(id)) {
             throw new ResourceNotFoundException("Tag", "id", id);
         }
+        clearCachedPosts();
         tagRepository.deleteById(id);
+        refreshCatalogAfterCommit(id);
+        TransactionCallbacks.afterCommit(() -> postTagIndex.removeTag(id));
+    }
+
+    private void refreshCatalogAfterCommit(Long tagId) {
+        TransactionCallbacks.afterCommit(() -> {
+            tagCatalog.refresh(tagId);
+            cacheInvalidator.publish(InvalidationEvent.TAGS, tagId);
+        });
+    }
+
+    /**
+     * Cached posts embed their tag names. Tag edits are rare, so the whole
+     * cache goes rather than looking up every post of a popular tag; it
+     * refills from reads.
+     */
+    private void clearCachedPosts() {
+        Cache posts = cacheManager.getCache(CacheConfig.POSTS);
+        if (posts != null) {
+            posts.clear();
+        }
     }
 
     private TagResponse toTagResponse(Tag tag) {
@@ -65,4 +178,10 @@ public class TagService {
         dto.setName(tag.getName());
         return dto;
     }
+
+    private TagResponse toTagResponseWithCount(Tag tag) {
+        TagResponse dto = toTagResponse(tag);
+        dto.setPostCount(tag.getPostCount());
+        return dto;
+    }
 }
\ No newline at end of file
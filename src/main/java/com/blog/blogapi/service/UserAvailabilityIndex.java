@@ -0,0 +1,123 @@
+package com.blog.blogapi.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.blog.blogapi.repository.UserIdentity;
+import com.blog.blogapi.repository.UserRepository;
+import com.blog.blogapi.search.BloomFilter;
+
+/**
+ * Bloom filters over every username and email, so an availability check for
+ * a free name is answered from memory. Only a possible hit has to be
+ * confirmed against the database. Names are never removed: a stale entry
+ * only costs that confirmation.
+ */
+@Component
+public class UserAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAvailabilityIndex.class);
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 5_000;
+
+    private final UserRepository userRepository;
+    private volatile Filters current;
+    private volatile Filters building;
+
+    public UserAvailabilityIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload();
+    }
+
+    /**
+     * False only when no user has the username. Before the filters are
+     * loaded every name might exist.
+     */
+    public boolean mightHaveUsername(String username) {
+        Filters filters = current;
+        return filters == null || filters.usernames().mightContain(username);
+    }
+
+    public boolean mightHaveEmail(String email) {
+        Filters filters = current;
+        return filters == null || filters.emails().mightContain(email);
+    }
+
+    /**
+     * Records a registered user. Call after the insert has committed.
+     */
+    public void add(String username, String email) {
+        Filters next = building;
+        if (next != null) {
+            next.add(username, email);
+        }
+        Filters filters = current;
+        if (filters != null) {
+            filters.add(username, email);
+            if (filters.usernames().isSaturated()) {
+                reloadIfSaturated();
+            }
+        }
+    }
+
+    /**
+     * Records a user registered on another node.
+     */
+    public void refresh(Long userId) {
+        userRepository.findById(userId).ifPresent(user -> add(user.getUsername(), user.getEmail()));
+    }
+
+    /**
+     * Sizes new filters for twice the current users and seeds them in id
+     * order. Registrations made meanwhile go to both the old and the new
+     * filters, so the swap loses none.
+     */
+    public synchronized void reload() {
+        long started = System.currentTimeMillis();
+        long users = userRepository.count();
+        int capacity = (int) Math.min(Integer.MAX_VALUE / 2, Math.max(MIN_CAPACITY, users * 2));
+        Filters fresh = new Filters(new BloomFilter(capacity, FALSE_POSITIVE_RATE),
+                new BloomFilter(capacity, FALSE_POSITIVE_RATE));
+        building = fresh;
+
+        long afterId = 0L;
+        List<UserIdentity> batch;
+        do {
+            batch = userRepository.findIdentityBatch(afterId, PageRequest.of(0, BATCH_SIZE));
+            for (UserIdentity user : batch) {
+                fresh.add(user.getUsername(), user.getEmail());
+                afterId = user.getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        current = fresh;
+        building = null;
+        logger.info("User availability filters loaded for {} users in {} ms", users,
+                System.currentTimeMillis() - started);
+    }
+
+    private synchronized void reloadIfSaturated() {
+        if (current.usernames().isSaturated()) {
+            reload();
+        }
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+
+        void add(String username, String email) {
+            usernames.add(username);
+            emails.add(email);
+        }
+    }
+}
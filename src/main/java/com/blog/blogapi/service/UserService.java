@@ -1,53 +1,146 @@
 package com.blog.blogapi.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Locale;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.blog.blogapi.dto.CursorPage;
+import com.blog.blogapi.dto.RoleUpdateRequest;
+import com.blog.blogapi.dto.UserAvailabilityResponse;
 import com.blog.blogapi.dto.UserRegistrationRequest;
 import com.blog.blogapi.dto.UserResponse;
 import com.blog.blogapi.exception.DuplicateResourceException;
+import com.blog.blogapi.exception.InvalidRequestException;
 import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.CacheInvalidator;
+import com.blog.blogapi.invalidation.InvalidationEvent;
+import com.blog.blogapi.model.Role;
 import com.blog.blogapi.model.User;
 import com.blog.blogapi.repository.UserRepository;
+import com.blog.blogapi.security.TokenVersionRegistry;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
 @Transactional
 public class UserService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthorizationService authorizationService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final FirstAdminRegistry firstAdminRegistry;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    private final CacheInvalidator cacheInvalidator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-            AuthorizationService authorizationService) {
+            AuthorizationService authorizationService, TokenVersionRegistry tokenVersionRegistry,
+            FirstAdminRegistry firstAdminRegistry, UserAvailabilityIndex userAvailabilityIndex,
+            CacheInvalidator cacheInvalidator, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorizationService = authorizationService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.firstAdminRegistry = firstAdminRegistry;
+        this.userAvailabilityIndex = userAvailabilityIndex;
+        this.cacheInvalidator = cacheInvalidator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Registers with a single insert against the unique indexes instead of
+     * checking first; a duplicate surfaces as the constraint violation. The
+     * password is hashed before the transaction, so no connection is held
+     * while waiting for the hashing pool.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse registerUser(UserRegistrationRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new DuplicateResourceException("User with username '" + request.getUsername() + "' already exists.");
+        String hash = passwordEncoder.encode(request.getPassword());
+        return toUserResponse(register(request, hash, firstAdminRegistry.mayClaim()));
+    }
+
+    /**
+     * Answers from the in-memory filters; only a name that might be taken is
+     * confirmed with an indexed lookup. Blank values are not checked.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserAvailabilityResponse checkAvailability(String username, String email) {
+        UserAvailabilityResponse response = new UserAvailabilityResponse();
+        if (username != null && !username.isBlank()) {
+            response.setUsernameAvailable(!userAvailabilityIndex.mightHaveUsername(username)
+                    || !userRepository.existsByUsername(username));
         }
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateResourceException("User with email '" + request.getEmail() + "' already exists.");
+        if (email != null && !email.isBlank()) {
+            response.setEmailAvailable(!userAvailabilityIndex.mightHaveEmail(email)
+                    || !userRepository.existsByEmail(email));
         }
-        User user = new User();
-        user.setUsername(request.getUsername());
-        user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-
-        long userCount = userRepository.count();
-        if (userCount == 0) {
-            user.setRole(com.blog.blogapi.model.Role.ADMIN);
+        return response;
+    }
+
+    private User register(UserRegistrationRequest request, String hash, boolean claimAdmin) {
+        try {
+            User saved = transactionTemplate.execute(status -> {
+                User user = new User();
+                user.setUsername(request.getUsername());
+                user.setEmail(request.getEmail());
+                user.setPassword(hash);
+                if (claimAdmin) {
+                    user.setRole(Role.ADMIN);
+                }
+                User inserted = userRepository.save(user);
+                if (claimAdmin) {
+                    firstAdminRegistry.claim(inserted.getId());
+                }
+                return inserted;
+            });
+            if (claimAdmin) {
+                firstAdminRegistry.markClaimed();
+            }
+            userAvailabilityIndex.add(saved.getUsername(), saved.getEmail());
+            cacheInvalidator.publish(InvalidationEvent.USERS, saved.getId());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (claimAdmin && FirstAdminRegistry.isClaimConflict(e)) {
+                firstAdminRegistry.markClaimed();
+                return register(request, hash, false);
+            }
+            throw duplicate(request, e);
         }
+    }
 
-        User saved = userRepository.save(user);
-        return toUserResponse(saved);
+    /**
+     * Names the duplicate field by looking up the taken value. The unique
+     * constraints keep the names Hibernate generated for them, which differ
+     * between versions, so the violation itself is not parsed. This only runs
+     * when the insert has already failed.
+     */
+    private DuplicateResourceException duplicate(UserRegistrationRequest request,
+            DataIntegrityViolationException e) {
+        boolean username = userRepository.findByUsername(request.getUsername()).isPresent();
+        if (!username && userRepository.findByEmail(request.getEmail()).isEmpty()) {
+            throw e;
+        }
+        return username
+                ? new DuplicateResourceException("User with username '" + request.getUsername() + "' already exists.")
+                : new DuplicateResourceException("User with email '" + request.getEmail() + "' already exists.");
     }
 
     public UserResponse getUserById(Long id) {
@@ -57,11 +150,77 @@ public class UserService {
         return toUserResponse(user);
     }
 
-    public List<UserResponse> getAllUsers() {
+    /**
+     * One keyset page of users, newest first, optionally filtered by role and
+     * username prefix. Reads only the response columns, so no entity is
+     * loaded.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> getUsers(String role, String usernamePrefix, String cursor, int size) {
+        authorizationService.checkAdmin();
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<UserResponse> users = userRepository.findUserPage(parseRoleFilter(role), usernamePrefix,
+                CursorCodec.decode(cursor), pageSize + 1);
+
+        CursorPage<UserResponse> result = new CursorPage<>();
+        boolean hasNext = users.size() > pageSize;
+        result.setContent(hasNext ? users.subList(0, pageSize) : users);
+        result.setSize(pageSize);
+        result.setHasNext(hasNext);
+        if (hasNext) {
+            result.setNextCursor(CursorCodec.encode(users.get(pageSize - 1).getId()));
+        }
+        return result;
+    }
+
+    /**
+     * Writes every matching user as one JSON object per line. Rows come
+     * through a database cursor and go straight to the stream, so memory use
+     * does not grow with the number of users.
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(String role, String usernamePrefix, OutputStream out) throws IOException {
         authorizationService.checkAdmin();
-        return userRepository.findAll().stream()
-                .map(this::toUserResponse)
-                .toList();
+        Role roleFilter = parseRoleFilter(role);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            userRepository.streamUsers(roleFilter, usernamePrefix, user -> {
+                try {
+                    objectMapper.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public UserResponse updateUserRole(Long id, RoleUpdateRequest request) {
+        authorizationService.checkAdmin();
+        Role role = parseRole(request.getRole());
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        user.changeRole(role);
+        User saved = userRepository.save(user);
+        TransactionCallbacks.afterCommit(() -> {
+            tokenVersionRegistry.evict(id);
+            cacheInvalidator.publish(InvalidationEvent.TOKEN_VERSIONS, id);
+        });
+        return toUserResponse(saved);
+    }
+
+    private Role parseRoleFilter(String role) {
+        return role == null || role.isBlank() ? null : parseRole(role);
+    }
+
+    private Role parseRole(String role) {
+        try {
+            return Role.valueOf(role.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Unknown role: " + role);
+        }
     }
 
     private UserResponse toUserResponse(User user) {
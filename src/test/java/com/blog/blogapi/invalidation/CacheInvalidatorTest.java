@@ -0,0 +1,182 @@
+package com.blog.blogapi.invalidation;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.blog.blogapi.model.Post;
+import com.blog.blogapi.model.Tag;
+import com.blog.blogapi.repository.PostRepository;
+import com.blog.blogapi.search.PostSearchIndex;
+import com.blog.blogapi.search.PostSearchIndexLoader;
+import com.blog.blogapi.search.PostTagIndex;
+import com.blog.blogapi.search.PostTagIndexLoader;
+import com.blog.blogapi.security.TokenVersionRegistry;
+import com.blog.blogapi.service.LocalizationCatalog;
+import com.blog.blogapi.service.TagCatalog;
+import com.blog.blogapi.service.UserAvailabilityIndex;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidatorTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache postCache;
+
+    @Mock
+    private LocalizationCatalog localizationCatalog;
+
+    @Mock
+    private TagCatalog tagCatalog;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostTagIndex postTagIndex;
+
+    @Mock
+    private PostSearchIndexLoader postSearchIndexLoader;
+
+    @Mock
+    private PostTagIndexLoader postTagIndexLoader;
+
+    @Mock
+    private UserAvailabilityIndex userAvailabilityIndex;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LocalInvalidationBus bus;
+    private CacheInvalidator thisNode;
+    private CacheInvalidator otherNode;
+
+    @BeforeEach
+    void setUp() {
+        bus = new LocalInvalidationBus();
+        thisNode = new CacheInvalidator(bus, cacheManager, localizationCatalog, tagCatalog, postRepository,
+                postSearchIndex, postTagIndex, postSearchIndexLoader, postTagIndexLoader, userAvailabilityIndex,
+                tokenVersionRegistry, transactionManager);
+        otherNode = new CacheInvalidator(bus, mock(CacheManager.class), mock(LocalizationCatalog.class),
+                mock(TagCatalog.class), mock(PostRepository.class), mock(PostSearchIndex.class),
+                mock(PostTagIndex.class), mock(PostSearchIndexLoader.class), mock(PostTagIndexLoader.class),
+                mock(UserAvailabilityIndex.class), mock(TokenVersionRegistry.class), transactionManager);
+    }
+
+    @Test
+    @DisplayName("events published by this node should not be applied to it again")
+    void onEvent_whenOwnEvent_shouldIgnore() {
+        thisNode.publish(InvalidationEvent.LOCALIZATION, "tr");
+
+        verify(localizationCatalog, never()).reloadLocale("tr");
+    }
+
+    @Test
+    @DisplayName("a localization change on another node should patch only that message or locale")
+    void onEvent_whenLocalizationChanged_shouldRefreshCatalog() {
+        otherNode.publish(InvalidationEvent.LOCALIZATION, InvalidationEvent.localizationKey("tr", "a|b"));
+        otherNode.publish(InvalidationEvent.LOCALIZATION, InvalidationEvent.localizationKey("de", null));
+
+        verify(localizationCatalog).refresh("tr", "a|b");
+        verify(localizationCatalog).reloadLocale("de");
+        verify(localizationCatalog, never()).reload();
+    }
+
+    @Test
+    @DisplayName("a post change on another node should evict and reindex only that post")
+    void onEvent_whenPostChanged_shouldRefreshThatPost() {
+        Tag tag = new Tag();
+        tag.setId(3L);
+        Post post = new Post();
+        post.setId(7L);
+        post.setTitle("Title");
+        post.setContent("Content");
+        post.setTags(new HashSet<>(Set.of(tag)));
+        when(cacheManager.getCache("posts")).thenReturn(postCache);
+        when(postRepository.findById(7L)).thenReturn(Optional.of(post));
+
+        otherNode.publish(InvalidationEvent.POSTS, 7L);
+
+        verify(postCache).evict(7L);
+        verify(postSearchIndex).index(7L, "Title", "Content");
+        verify(postTagIndex).index(7L, List.of(3L));
+    }
+
+    @Test
+    @DisplayName("a post deleted on another node should leave the indexes")
+    void onEvent_whenPostDeleted_shouldRemoveFromIndexes() {
+        when(postRepository.findById(7L)).thenReturn(Optional.empty());
+
+        otherNode.publish(InvalidationEvent.POSTS, 7L);
+
+        verify(postSearchIndex).remove(7L);
+        verify(postTagIndex).remove(7L);
+    }
+
+    @Test
+    @DisplayName("a tag deleted on another node should leave the tag index and clear cached posts")
+    void onEvent_whenTagDeleted_shouldRemoveTag() {
+        TagCatalog.Snapshot snapshot = mock(TagCatalog.Snapshot.class);
+        when(snapshot.nameOf(4L)).thenReturn(Optional.empty());
+        when(tagCatalog.refresh(4L)).thenReturn(snapshot);
+        when(cacheManager.getCache("posts")).thenReturn(postCache);
+
+        otherNode.publish(InvalidationEvent.TAGS, 4L);
+
+        verify(postTagIndex).removeTag(4L);
+        verify(postCache).clear();
+    }
+
+    @Test
+    @DisplayName("events should survive the wire format, including a whole-cache event")
+    void invalidationEvent_shouldRoundTrip() {
+        InvalidationEvent event = new InvalidationEvent("node", InvalidationEvent.TAGS, "a|b");
+        InvalidationEvent wholeCache = new InvalidationEvent("node", InvalidationEvent.POSTS, null);
+
+        assertEquals(event, InvalidationEvent.decode(event.encode()));
+        assertNull(InvalidationEvent.decode(wholeCache.encode()).key());
+        assertThrows(IllegalArgumentException.class, () -> InvalidationEvent.decode("garbage"));
+    }
+
+    @Test
+    @DisplayName("a registration on another node should add that user to the availability filters")
+    void onEvent_whenUserRegistered_shouldRefreshAvailability() {
+        otherNode.publish(InvalidationEvent.USERS, 5L);
+
+        verify(userAvailabilityIndex).refresh(5L);
+    }
+
+    @Test
+    @DisplayName("a role change on another node should drop the cached token version of that user")
+    void onEvent_whenTokenVersionChanged_shouldEvictRegistryEntry() {
+        otherNode.publish(InvalidationEvent.TOKEN_VERSIONS, 5L);
+
+        verify(tokenVersionRegistry).evict(5L);
+    }
+}
@@ -0,0 +1,33 @@
+package com.blog.blogapi.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+
+import com.blog.blogapi.model.AdminClaim;
+import com.blog.blogapi.service.FirstAdminRegistry;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class AdminClaimRepositoryTest {
+
+    @Autowired
+    private AdminClaimRepository adminClaimRepository;
+
+    @Test
+    @DisplayName("claim should insert the row once and reject a second claim")
+    void claim_whenAlreadyClaimed_shouldFail() {
+        assertEquals(1, adminClaimRepository.claim(7L));
+
+        var exception = assertThrows(DataIntegrityViolationException.class, () -> adminClaimRepository.claim(8L));
+
+        assertTrue(FirstAdminRegistry.isClaimConflict(exception));
+        assertEquals(7L, adminClaimRepository.findById(AdminClaim.ID).orElseThrow().getUserId());
+    }
+}
@@ -0,0 +1,44 @@
+package com.blog.blogapi.repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import com.blog.blogapi.model.LocalizationMessage;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class LocalizationMessageRepositoryTest {
+
+    @Autowired
+    private LocalizationMessageRepository messageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("upsertMessages should update existing keys and insert new ones for the locale only")
+    void upsertMessages_shouldInsertOrUpdate() {
+        entityManager.persist(new LocalizationMessage("common.save", "tr", "Kaydet"));
+        entityManager.persist(new LocalizationMessage("common.save", "en", "Save"));
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<String, String> messages = new LinkedHashMap<>();
+        messages.put("common.save", "Kaydet!");
+        messages.put("common.cancel", "İptal");
+        messageRepository.upsertMessages("tr", messages);
+
+        assertEquals(3, messageRepository.count());
+        assertEquals("Kaydet!", messageRepository.findByKeyAndLocale("common.save", "tr").orElseThrow().getValue());
+        assertEquals("İptal", messageRepository.findByKeyAndLocale("common.cancel", "tr").orElseThrow().getValue());
+        assertEquals("Save", messageRepository.findByKeyAndLocale("common.save", "en").orElseThrow().getValue());
+    }
+}
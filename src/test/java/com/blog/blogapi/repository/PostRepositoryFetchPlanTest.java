@@ -0,0 +1,199 @@
+package com.blog.blogapi.repository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import com.blog.blogapi.model.Post;
+import com.blog.blogapi.model.Tag;
+import com.blog.blogapi.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the list fetch plans: a page of posts must load its authors and tags in
+ * a fixed number of statements, however many posts the page holds.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PostRepositoryFetchPlanTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long authorId;
+
+    @BeforeEach
+    void setUp() {
+        Tag java = persistTag("java");
+        Tag spring = persistTag("spring");
+        Tag jpa = persistTag("jpa");
+
+        for (int u = 0; u < 3; u++) {
+            User author = new User();
+            author.setUsername("author" + u);
+            author.setEmail("author" + u + "@example.com");
+            author.setPassword("password" + u);
+            entityManager.persist(author);
+            authorId = author.getId();
+
+            for (int i = 0; i < 5; i++) {
+                Post post = new Post();
+                post.setTitle("Post " + u + "-" + i);
+                post.setContent("Some content for post " + u + "-" + i);
+                post.setAuthor(author);
+                post.setTags(new HashSet<>(i % 2 == 0 ? Set.of(java, spring) : Set.of(spring, jpa)));
+                entityManager.persist(post);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+    }
+
+    @Test
+    @DisplayName("findAll page should load authors and tags without per-post queries")
+    void findAll_shouldNotIssuePerPostQueries() {
+        List<Post> posts = postRepository.findAll(PageRequest.of(0, PAGE_SIZE, Sort.by("id").descending()))
+                .getContent();
+        touchAssociations(posts);
+
+        assertEquals(PAGE_SIZE, posts.size());
+        // page select + count + one batched post_tags load
+        assertStatementsAtMost(3);
+    }
+
+    @Test
+    @DisplayName("findByIdIn should load authors and tags without per-post queries")
+    void findByIdIn_shouldNotIssuePerPostQueries() {
+        List<Long> ids = postRepository.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, PAGE_SIZE))
+                .map(Post::getId)
+                .getContent();
+        entityManager.clear();
+        statistics().clear();
+
+        List<Post> posts = postRepository.findByIdIn(ids);
+        touchAssociations(posts);
+
+        assertEquals(PAGE_SIZE, posts.size());
+        assertStatementsAtMost(2);
+    }
+
+    @Test
+    @DisplayName("cursor slice should load authors and tags without per-post queries")
+    void findByIdLessThan_shouldNotIssuePerPostQueries() {
+        List<Post> posts = postRepository.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, PAGE_SIZE))
+                .getContent();
+        touchAssociations(posts);
+
+        assertEquals(PAGE_SIZE, posts.size());
+        // slice select + one batched post_tags load, no count
+        assertStatementsAtMost(2);
+    }
+
+    @Test
+    @DisplayName("author summaries should load a page and its tag ids in two statements")
+    void findSummariesByAuthor_shouldUseTwoStatements() {
+        List<PostSummaryProjection> page = postRepository.findSummariesByAuthor(authorId, 11, PageRequest.of(0, 3));
+        List<PostTagLink> links = postRepository.findTagLinksByPostIds(
+                page.stream().map(PostSummaryProjection::getId).toList());
+
+        assertEquals(3, page.size());
+        assertEquals("Some conten", page.get(0).getExcerpt());
+        assertEquals(6, links.size());
+        assertStatementsAtMost(2);
+    }
+
+    @Test
+    @DisplayName("author summaries should continue after the last position without gaps or repeats")
+    void findSummariesByAuthorBefore_shouldContinueAfterPosition() {
+        List<PostSummaryProjection> first = postRepository.findSummariesByAuthor(authorId, 20, PageRequest.of(0, 3));
+        PostSummaryProjection last = first.get(first.size() - 1);
+
+        List<PostSummaryProjection> second = postRepository.findSummariesByAuthorBefore(authorId,
+                last.getCreatedAt(), last.getId(), 20, PageRequest.of(0, 3));
+
+        Set<Long> ids = new HashSet<>();
+        first.forEach(summary -> ids.add(summary.getId()));
+        second.forEach(summary -> ids.add(summary.getId()));
+        assertEquals(2, second.size());
+        assertEquals(5, ids.size());
+    }
+
+    @Test
+    @DisplayName("findOwnershipById should read the author id in a single statement")
+    void findOwnershipById_shouldUseSingleStatement() {
+        Long postId = latestPostId();
+        entityManager.clear();
+        statistics().clear();
+
+        PostOwnership ownership = postRepository.findOwnershipById(postId).orElseThrow();
+
+        assertEquals(postId, ownership.getId());
+        assertEquals(authorId, ownership.getAuthorId());
+        assertStatementsAtMost(1);
+    }
+
+    @Test
+    @DisplayName("deletePostById should remove the post after its tag links are removed")
+    void deletePostById_shouldRemovePostAndTagLinks() {
+        Long postId = latestPostId();
+        entityManager.clear();
+
+        assertEquals(2, postRepository.deleteTagLinksByPostId(postId));
+        assertEquals(1, postRepository.deletePostById(postId));
+        assertTrue(postRepository.findOwnershipById(postId).isEmpty());
+    }
+
+    private Long latestPostId() {
+        return postRepository.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, 1))
+                .getContent().get(0).getId();
+    }
+
+    private Tag persistTag(String name) {
+        Tag tag = new Tag();
+        tag.setName(name);
+        return entityManager.persist(tag);
+    }
+
+    private void touchAssociations(List<Post> posts) {
+        posts.forEach(post -> {
+            post.getAuthorUsername();
+            post.getTags().forEach(Tag::getName);
+        });
+    }
+
+    private void assertStatementsAtMost(long expected) {
+        long actual = statistics().getPrepareStatementCount();
+        assertTrue(actual <= expected, "Expected at most " + expected + " statements but got " + actual);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,138 @@
+package com.blog.blogapi.repository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.blog.blogapi.model.Post;
+import com.blog.blogapi.model.Tag;
+import com.blog.blogapi.model.User;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class TagRepositoryTest {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Tag java;
+    private Tag spring;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        java = persistTag("java");
+        spring = persistTag("spring");
+
+        User author = new User();
+        author.setUsername("author");
+        author.setEmail("author@example.com");
+        author.setPassword("password");
+        entityManager.persist(author);
+
+        post = new Post();
+        post.setTitle("Post");
+        post.setContent("Some content for the post");
+        post.setAuthor(author);
+        post.setTags(new HashSet<>(Set.of(java, spring)));
+        entityManager.persist(post);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("adjustPostCounts should move the counters of the given tags only")
+    void adjustPostCounts_shouldUpdateGivenTags() {
+        assertEquals(1, tagRepository.adjustPostCounts(List.of(java.getId()), 1));
+
+        assertEquals(1, postCount(java));
+        assertEquals(0, postCount(spring));
+    }
+
+    @Test
+    @DisplayName("decrementPostCountsOfPost should decrement every tag of the post")
+    void decrementPostCountsOfPost_shouldDecrementLinkedTags() {
+        tagRepository.adjustPostCounts(List.of(java.getId(), spring.getId()), 1);
+
+        assertEquals(2, tagRepository.decrementPostCountsOfPost(post.getId()));
+
+        assertEquals(0, postCount(java));
+        assertEquals(0, postCount(spring));
+    }
+
+    @Test
+    @DisplayName("reconcile statements should repair drifted counters only")
+    void reconcilePostCounts_shouldRepairDrift() {
+        Tag unused = persistTag("unused");
+        tagRepository.adjustPostCounts(List.of(java.getId()), 5);
+        tagRepository.adjustPostCounts(List.of(spring.getId()), 1);
+        tagRepository.adjustPostCounts(List.of(unused.getId()), 2);
+
+        assertEquals(1, tagRepository.reconcileLinkedPostCounts());
+        assertEquals(1, tagRepository.zeroUnlinkedPostCounts());
+
+        assertEquals(1, postCount(java));
+        assertEquals(1, postCount(spring));
+        assertEquals(0, postCount(unused));
+    }
+
+    @Test
+    @DisplayName("findTagCloud should order by post count and skip unused tags")
+    void findTagCloud_shouldOrderByCount() {
+        Tag unused = persistTag("unused");
+        tagRepository.adjustPostCounts(List.of(java.getId()), 1);
+        tagRepository.adjustPostCounts(List.of(spring.getId()), 3);
+        entityManager.clear();
+
+        List<Tag> cloud = tagRepository.findTagCloud(PageRequest.of(0, 10));
+
+        assertEquals(List.of("spring", "java"), cloud.stream().map(Tag::getName).toList());
+        assertEquals(0, postCount(unused));
+    }
+
+    @Test
+    @DisplayName("tag link statements should merge one tag into another without duplicate links")
+    void tagLinkStatements_shouldMergeWithoutDuplicates() {
+        Tag kotlin = persistTag("kotlin");
+        List<Long> postIds = postRepository.findPostIdsTaggedAny(List.of(java.getId(), spring.getId()), 10);
+
+        assertEquals(List.of(post.getId()), postIds);
+        assertEquals(1, postRepository.copyTagLinks(List.of(java.getId(), spring.getId()), kotlin.getId(), postIds));
+        assertEquals(0, postRepository.copyTagLinks(List.of(spring.getId()), kotlin.getId(), postIds));
+        assertEquals(2, postRepository.deleteTagLinks(List.of(java.getId(), spring.getId()), postIds));
+        assertEquals(1, tagRepository.recountPostCount(kotlin.getId()));
+        assertEquals(2, tagRepository.lockByIdIn(List.of(java.getId(), spring.getId())).size());
+        assertEquals(2, tagRepository.deleteByIdIn(List.of(java.getId(), spring.getId())));
+
+        assertEquals(List.of(), postRepository.findPostIdsTaggedAny(List.of(java.getId(), spring.getId()), 10));
+        assertEquals(List.of(post.getId()), postRepository.findPostIdsTaggedAny(List.of(kotlin.getId()), 10));
+        assertEquals(1, postCount(kotlin));
+    }
+
+    private Tag persistTag(String name) {
+        Tag tag = new Tag();
+        tag.setName(name);
+        return entityManager.persist(tag);
+    }
+
+    private int postCount(Tag tag) {
+        entityManager.clear();
+        return tagRepository.findById(tag.getId()).orElseThrow().getPostCount();
+    }
+}
@@ -0,0 +1,84 @@
+package com.blog.blogapi.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import com.blog.blogapi.dto.UserResponse;
+import com.blog.blogapi.model.Role;
+import com.blog.blogapi.model.User;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User alice;
+    private User albert;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = persistUser("alice", Role.ADMIN);
+        albert = persistUser("al_bert", Role.USER);
+        bob = persistUser("bob", Role.USER);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findUserPage should page newest first below the cursor")
+    void findUserPage_shouldPageByIdDescending() {
+        List<UserResponse> first = userRepository.findUserPage(null, null, Long.MAX_VALUE, 2);
+        List<UserResponse> second = userRepository.findUserPage(null, null, first.get(1).getId(), 2);
+
+        assertEquals(List.of(bob.getId(), albert.getId()), first.stream().map(UserResponse::getId).toList());
+        assertEquals(List.of(alice.getId()), second.stream().map(UserResponse::getId).toList());
+        assertEquals("ADMIN", second.get(0).getRole());
+    }
+
+    @Test
+    @DisplayName("findUserPage should filter by role and treat the prefix literally")
+    void findUserPage_shouldApplyFilters() {
+        assertEquals(List.of(albert.getId()), ids(userRepository.findUserPage(Role.USER, "al", Long.MAX_VALUE, 10)));
+        assertEquals(List.of(albert.getId()), ids(userRepository.findUserPage(null, "al_", Long.MAX_VALUE, 10)));
+        assertEquals(List.of(), ids(userRepository.findUserPage(null, "a%", Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    @DisplayName("streamUsers should hand every matching user to the sink")
+    void streamUsers_shouldVisitAllMatches() {
+        List<UserResponse> seen = new ArrayList<>();
+
+        userRepository.streamUsers(Role.USER, null, seen::add);
+
+        assertEquals(List.of(bob.getId(), albert.getId()), ids(seen));
+        assertEquals("bob@example.com", seen.get(0).getEmail());
+    }
+
+    private User persistUser(String username, Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        user.setRole(role);
+        return entityManager.persist(user);
+    }
+
+    private static List<Long> ids(List<UserResponse> users) {
+        return users.stream().map(UserResponse::getId).toList();
+    }
+}
@@ -0,0 +1,132 @@
+package com.blog.blogapi.search;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex();
+        index.index(1L, "Spring Boot ile REST", "<p>Java ve Spring ile bir API yazıyoruz.</p>");
+        index.index(2L, "İstanbul notları", "<p>Şehir hakkında kısa notlar&nbsp;ve fotoğraflar.</p>");
+        index.index(3L, "Java streams", "<p>Collectors and the Stream API in Java.</p>");
+    }
+
+    @Test
+    @DisplayName("search should require every term")
+    void search_shouldIntersectTerms() {
+        assertEquals(List.of(3L, 1L), index.search("java"));
+        assertEquals(List.of(1L), index.search("java spring"));
+        assertTrue(index.search("java istanbul").isEmpty());
+    }
+
+    @Test
+    @DisplayName("search should fold Turkish case and diacritics")
+    void search_shouldFoldTurkishCharacters() {
+        assertEquals(List.of(2L), index.search("ISTANBUL"));
+        assertEquals(List.of(2L), index.search("istanbul"));
+        assertEquals(List.of(2L), index.search("sehir"));
+        assertEquals(List.of(1L), index.search("YAZIYORUZ"));
+    }
+
+    @Test
+    @DisplayName("search should ignore markup and entities")
+    void search_shouldIgnoreMarkup() {
+        assertTrue(index.search("nbsp").isEmpty());
+        assertTrue(index.search("p").isEmpty());
+    }
+
+    @Test
+    @DisplayName("search should match the last term as a prefix")
+    void search_shouldMatchLastTermAsPrefix() {
+        assertEquals(List.of(3L), index.search("java strea"));
+        assertEquals(List.of(3L, 1L), index.search("jav"));
+    }
+
+    @Test
+    @DisplayName("search should rank title matches above content-only matches")
+    void search_shouldWeightTitleHigher() {
+        index.index(4L, "Unrelated heading", "Spring Spring Spring shows up a lot in this body about spring.");
+        index.index(5L, "Spring", "Short body without the word.");
+
+        List<Long> ranked = index.search("spring");
+
+        assertEquals(5L, ranked.get(0));
+        assertTrue(ranked.containsAll(List.of(1L, 4L)));
+    }
+
+    @Test
+    @DisplayName("search should order equally scored posts newest first")
+    void search_withEqualScores_shouldPreferNewest() {
+        index.index(10L, "Twin", "Identical body text here.");
+        index.index(11L, "Twin", "Identical body text here.");
+
+        assertEquals(List.of(11L, 10L), index.search("twin"));
+    }
+
+    @Test
+    @DisplayName("index should replace the previous terms of a post and remove should drop them")
+    void indexAndRemove_shouldKeepIndexInSync() {
+        index.index(3L, "Kotlin coroutines", "Nothing about the old topic here.");
+        assertEquals(List.of(1L), index.search("java"));
+        assertEquals(List.of(3L), index.search("kotlin"));
+
+        index.remove(3L);
+        assertTrue(index.search("kotlin").isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("rebuild should keep serving the old index until it is published")
+    void rebuild_shouldSwapOnPublish() {
+        try (PostSearchIndex.Rebuild rebuild = index.beginRebuild()) {
+            rebuild.index(1L, "Spring Boot ile REST", "<p>Java ve Spring ile bir API yazıyoruz.</p>");
+            assertEquals(List.of(2L), index.search("istanbul"));
+            assertEquals(3, index.size());
+
+            rebuild.publish();
+        }
+
+        assertTrue(index.search("istanbul").isEmpty());
+        assertEquals(List.of(1L), index.search("java"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("rebuild should not overwrite posts written while it runs")
+    void rebuild_withConcurrentWrites_shouldKeepNewerData() {
+        try (PostSearchIndex.Rebuild rebuild = index.beginRebuild()) {
+            index.index(1L, "Kotlin coroutines", "Edited after the batch was read.");
+            index.remove(2L);
+            rebuild.index(1L, "Spring Boot ile REST", "<p>Java ve Spring ile bir API yazıyoruz.</p>");
+            rebuild.index(2L, "İstanbul notları", "<p>Şehir hakkında kısa notlar.</p>");
+            rebuild.index(3L, "Java streams", "<p>Collectors and the Stream API in Java.</p>");
+            index.index(4L, "Kotlin flows", "Created while the rebuild runs.");
+
+            rebuild.publish();
+        }
+
+        assertEquals(List.of(4L, 1L), index.search("kotlin"));
+        assertEquals(List.of(3L), index.search("java"));
+        assertTrue(index.search("istanbul").isEmpty());
+    }
+
+    @Test
+    @DisplayName("rebuild closed without publishing should leave the index untouched")
+    void rebuild_whenNotPublished_shouldBeDropped() {
+        try (PostSearchIndex.Rebuild rebuild = index.beginRebuild()) {
+            rebuild.index(9L, "Orphan", "Never published.");
+        }
+
+        assertTrue(index.search("orphan").isEmpty());
+        assertEquals(3, index.size());
+    }
+}
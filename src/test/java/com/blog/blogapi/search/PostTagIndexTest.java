@@ -0,0 +1,149 @@
+package com.blog.blogapi.search;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostTagIndexTest {
+
+    private PostTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostTagIndex();
+        index.index(1L, List.of(10L, 20L));
+        index.index(2L, List.of(10L));
+        index.index(3L, List.of(20L, 30L));
+        index.index(4L, List.of(10L, 20L, 30L));
+    }
+
+    @Test
+    @DisplayName("match all should intersect the tag bitmaps")
+    void match_all_shouldIntersect() {
+        PostTagIndex.Result result = index.match(List.of(10L, 20L), true);
+
+        assertEquals(2, result.total());
+        assertEquals(List.of(4L, 1L), result.page(0, 10));
+    }
+
+    @Test
+    @DisplayName("match any should unite the tag bitmaps")
+    void match_any_shouldUnite() {
+        PostTagIndex.Result result = index.match(List.of(10L, 30L), false);
+
+        assertEquals(4, result.total());
+        assertEquals(List.of(4L, 3L, 2L, 1L), result.page(0, 10));
+    }
+
+    @Test
+    @DisplayName("match all with an unknown tag should find nothing")
+    void match_all_withUnknownTag_shouldBeEmpty() {
+        assertEquals(0, index.match(List.of(10L, 99L), true).total());
+        assertEquals(3, index.match(List.of(10L, 99L), false).total());
+    }
+
+    @Test
+    @DisplayName("page should skip by rank, newest first")
+    void page_shouldSkipByRank() {
+        PostTagIndex.Result result = index.match(List.of(10L), true);
+
+        assertEquals(List.of(2L), result.page(1, 1));
+        assertEquals(List.of(1L), result.page(2, 5));
+        assertTrue(result.page(3, 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("index should replace the previous tags of a post")
+    void index_shouldReplaceTags() {
+        index.index(2L, List.of(30L));
+
+        assertEquals(List.of(4L, 1L), index.match(List.of(10L), true).page(0, 10));
+        assertEquals(List.of(4L, 3L, 2L), index.match(List.of(30L), true).page(0, 10));
+    }
+
+    @Test
+    @DisplayName("a result should not change when the index changes afterwards")
+    void result_shouldBeIsolatedFromLaterWrites() {
+        PostTagIndex.Result result = index.match(List.of(10L), true);
+
+        index.remove(4L);
+        index.removeTag(10L);
+
+        assertEquals(3, result.total());
+        assertEquals(0, index.match(List.of(10L), true).total());
+    }
+
+    @Test
+    @DisplayName("re-indexing a merged post should drop it from the merge target")
+    void index_afterMerge_shouldReplaceTargetTag() {
+        index.mergeTags(List.of(30L), 20L);
+
+        index.index(3L, List.of(10L));
+
+        assertEquals(List.of(4L, 1L), index.match(List.of(20L), true).page(0, 10));
+        assertEquals(0, index.match(List.of(30L), false).total());
+        assertEquals(List.of(4L, 3L, 2L, 1L), index.match(List.of(10L), true).page(0, 10));
+    }
+
+    @Test
+    @DisplayName("re-indexing after a tag was removed should keep the other tags consistent")
+    void index_afterRemoveTag_shouldKeepOtherTags() {
+        index.removeTag(20L);
+
+        index.index(4L, List.of(30L));
+
+        assertEquals(List.of(2L, 1L), index.match(List.of(10L), true).page(0, 10));
+        assertEquals(List.of(4L, 3L), index.match(List.of(30L), true).page(0, 10));
+    }
+
+    @Test
+    @DisplayName("rebuild should keep serving the old index until it is published")
+    void rebuild_shouldSwapOnPublish() {
+        try (PostTagIndex.Rebuild rebuild = index.beginRebuild()) {
+            rebuild.add(1L, List.of(10L));
+            rebuild.add(2L, List.of(10L));
+            assertEquals(List.of(4L, 3L), index.match(List.of(30L), true).page(0, 10));
+
+            rebuild.publish();
+        }
+
+        assertEquals(List.of(2L, 1L), index.match(List.of(10L), true).page(0, 10));
+        assertEquals(0, index.match(List.of(30L), true).total());
+        assertEquals(1, index.tagCount());
+    }
+
+    @Test
+    @DisplayName("rebuild should not overwrite posts or tags changed while it runs")
+    void rebuild_withConcurrentWrites_shouldKeepNewerData() {
+        try (PostTagIndex.Rebuild rebuild = index.beginRebuild()) {
+            index.index(2L, List.of(30L));
+            index.removeTag(20L);
+            index.mergeTags(List.of(30L), 10L);
+            rebuild.add(1L, List.of(10L, 20L));
+            rebuild.add(2L, List.of(10L));
+            rebuild.add(3L, List.of(20L, 30L));
+            index.index(5L, List.of(20L));
+
+            rebuild.publish();
+        }
+
+        assertEquals(List.of(3L, 2L, 1L), index.match(List.of(10L), true).page(0, 10));
+        assertEquals(List.of(5L), index.match(List.of(20L), true).page(0, 10));
+        assertEquals(0, index.match(List.of(30L), true).total());
+    }
+
+    @Test
+    @DisplayName("rebuild closed without publishing should leave the index untouched")
+    void rebuild_whenNotPublished_shouldBeDropped() {
+        try (PostTagIndex.Rebuild rebuild = index.beginRebuild()) {
+            rebuild.add(9L, List.of(90L));
+        }
+
+        assertEquals(0, index.match(List.of(90L), true).total());
+        assertEquals(3, index.tagCount());
+    }
+}
@@ -0,0 +1,39 @@
+package com.blog.blogapi.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnippetBuilderTest {
+
+    @Test
+    @DisplayName("build should highlight folded matches and keep the original spelling")
+    void build_shouldHighlightMatches() {
+        String snippet = SnippetBuilder.build("<p>Bugün İstanbul'da yağmur var.</p>", "istanbul");
+
+        assertEquals("Bugün <mark>İstanbul</mark>'da yağmur var.", snippet);
+    }
+
+    @Test
+    @DisplayName("build should cut a window around the hits of a long body")
+    void build_shouldCutWindowAroundHits() {
+        String filler = "lorem ".repeat(200);
+        String snippet = SnippetBuilder.build(filler + "the needle sits here " + filler, "needle");
+
+        assertTrue(snippet.startsWith("... "));
+        assertTrue(snippet.endsWith(" ..."));
+        assertTrue(snippet.contains("<mark>needle</mark>"));
+        assertTrue(snippet.length() < 300);
+    }
+
+    @Test
+    @DisplayName("build should escape text that was not markup")
+    void build_shouldEscapeText() {
+        String snippet = SnippetBuilder.build("a &lt;b&gt; 5 > 3 and x < y", "and");
+
+        assertFalse(snippet.contains("< y"));
+        assertTrue(snippet.contains("&gt; 3 <mark>and</mark> x &lt; y"));
+    }
+}
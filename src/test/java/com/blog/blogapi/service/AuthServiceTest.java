@@ -1,12 +1,30 @@
 package com.blog.blogapi.service;
 
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.blog.blogapi.dto.LoginRequest;
+import com.blog.blogapi.dto.LoginResponse;
+import com.blog.blogapi.exception.PasswordHashingBusyException;
+import com.blog.blogapi.model.User;
 import com.blog.blogapi.repository.UserRepository;
 import com.blog.blogapi.security.JwtUtil;
 
@@ -28,5 +46,73 @@ class AuthServiceTest {
     @InjectMocks
     private AuthService authService;
 
-    // Tests for AuthService will be added here
-}
\ No newline at end of file
+    private User user;
+    private LoginRequest request;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setUsername("ayse");
+        user.setEmail("ayse@example.com");
+        user.setPassword("$2a$10$oldhash");
+
+        request = new LoginRequest();
+        request.setEmail("ayse@example.com");
+        request.setPassword("secret");
+    }
+
+    @Test
+    @DisplayName("login should return a token and leave a current hash alone")
+    void login_whenHashCurrent_shouldNotRehash() {
+        when(userRepository.findByEmail("ayse@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", "$2a$10$oldhash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("$2a$10$oldhash")).thenReturn(false);
+        when(jwtUtil.generateToken(user)).thenReturn("jwt");
+
+        LoginResponse response = authService.login(request);
+
+        assertEquals("jwt", response.getToken());
+        assertEquals(1L, response.getUser().getId());
+        verify(passwordEncoder, never()).encode(any());
+        verify(userRepository, never()).updatePasswordHash(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("login should rehash a password stored with another cost")
+    void login_whenHashOutdated_shouldRehash() {
+        when(userRepository.findByEmail("ayse@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", "$2a$10$oldhash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("$2a$10$oldhash")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenReturn("$2a$12$newhash");
+        when(jwtUtil.generateToken(user)).thenReturn("jwt");
+
+        authService.login(request);
+
+        verify(userRepository).updatePasswordHash(1L, "$2a$10$oldhash", "$2a$12$newhash");
+    }
+
+    @Test
+    @DisplayName("login should still succeed when the rehash finds the hashing pool busy")
+    void login_whenRehashBusy_shouldKeepOldHash() {
+        when(userRepository.findByEmail("ayse@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", "$2a$10$oldhash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("$2a$10$oldhash")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenThrow(new PasswordHashingBusyException("busy"));
+        when(jwtUtil.generateToken(user)).thenReturn("jwt");
+
+        assertEquals("jwt", authService.login(request).getToken());
+        verify(userRepository, never()).updatePasswordHash(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("login should reject a wrong password without rehashing")
+    void login_whenPasswordWrong_shouldThrowException() {
+        when(userRepository.findByEmail("ayse@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", "$2a$10$oldhash")).thenReturn(false);
+
+        assertThrows(BadCredentialsException.class, () -> authService.login(request));
+        verify(passwordEncoder, never()).upgradeEncoding(anyString());
+        verify(jwtUtil, never()).generateToken(any(User.class));
+    }
+}
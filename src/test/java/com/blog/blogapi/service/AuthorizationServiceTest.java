@@ -3,6 +3,8 @@ package com.blog.blogapi.service;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,7 +12,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
@@ -22,8 +28,10 @@ import com.blog.blogapi.exception.ResourceNotFoundException;
 import com.blog.blogapi.model.Post;
 import com.blog.blogapi.model.Role;
 import com.blog.blogapi.model.User;
+import com.blog.blogapi.repository.PostOwnership;
 import com.blog.blogapi.repository.PostRepository;
 import com.blog.blogapi.repository.UserRepository;
+import com.blog.blogapi.security.UserDetailsImpl;
 
 @ExtendWith(MockitoExtension.class)
 class AuthorizationServiceTest {
@@ -64,10 +72,23 @@ class AuthorizationServiceTest {
         post.setAuthor(regularUser);
     }
 
+    private PostOwnership ownership(Post post) {
+        return new PostOwnership() {
+            @Override
+            public Long getId() {
+                return post.getId();
+            }
+
+            @Override
+            public Long getAuthorId() {
+                return post.getAuthorId();
+            }
+        };
+    }
+
     private void mockSecurityContext(User user) {
         Authentication authentication = mock(Authentication.class);
-        when(authentication.getName()).thenReturn(user.getUsername());
-        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+        when(authentication.getPrincipal()).thenReturn(UserDetailsImpl.build(user));
 
         SecurityContext securityContext = mock(SecurityContext.class);
         when(securityContext.getAuthentication()).thenReturn(authentication);
@@ -78,7 +99,7 @@ class AuthorizationServiceTest {
     @DisplayName("checkPostOwnerOrAdmin should allow admin user")
     void checkPostOwnerOrAdmin_whenUserIsAdmin_shouldNotThrow() {
         mockSecurityContext(adminUser);
-        when(postRepository.findById(10L)).thenReturn(Optional.of(post));
+        when(postRepository.findOwnershipById(10L)).thenReturn(Optional.of(ownership(post)));
         assertDoesNotThrow(() -> authorizationService.checkPostOwnerOrAdmin(10L));
     }
 
@@ -86,7 +107,7 @@ class AuthorizationServiceTest {
     @DisplayName("checkPostOwnerOrAdmin should allow post owner")
     void checkPostOwnerOrAdmin_whenUserIsOwner_shouldNotThrow() {
         mockSecurityContext(regularUser);
-        when(postRepository.findById(10L)).thenReturn(Optional.of(post));
+        when(postRepository.findOwnershipById(10L)).thenReturn(Optional.of(ownership(post)));
         assertDoesNotThrow(() -> authorizationService.checkPostOwnerOrAdmin(10L));
     }
 
@@ -94,7 +115,7 @@ class AuthorizationServiceTest {
     @DisplayName("checkPostOwnerOrAdmin should throw AccessDeniedException for non-owner")
     void checkPostOwnerOrAdmin_whenUserIsNotOwnerOrAdmin_shouldThrow() {
         mockSecurityContext(anotherUser);
-        when(postRepository.findById(10L)).thenReturn(Optional.of(post));
+        when(postRepository.findOwnershipById(10L)).thenReturn(Optional.of(ownership(post)));
         assertThrows(AccessDeniedException.class, () -> authorizationService.checkPostOwnerOrAdmin(10L));
     }
 
@@ -102,10 +123,36 @@ class AuthorizationServiceTest {
     @DisplayName("checkPostOwnerOrAdmin should throw ResourceNotFoundException if post does not exist")
     void checkPostOwnerOrAdmin_whenPostNotFound_shouldThrowResourceNotFoundException() {
         mockSecurityContext(regularUser);
-        when(postRepository.findById(10L)).thenReturn(Optional.empty());
+        when(postRepository.findOwnershipById(10L)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> authorizationService.checkPostOwnerOrAdmin(10L));
     }
 
+    @Test
+    @DisplayName("getPostForModificationOrThrow should return the loaded post to its owner")
+    void getPostForModificationOrThrow_whenUserIsOwner_shouldReturnPost() {
+        mockSecurityContext(regularUser);
+        when(postRepository.findById(10L)).thenReturn(Optional.of(post));
+
+        assertSame(post, authorizationService.getPostForModificationOrThrow(10L));
+        verify(postRepository, never()).findOwnershipById(anyLong());
+    }
+
+    @Test
+    @DisplayName("getPostForModificationOrThrow should throw AccessDeniedException for non-owner")
+    void getPostForModificationOrThrow_whenUserIsNotOwnerOrAdmin_shouldThrow() {
+        mockSecurityContext(anotherUser);
+        when(postRepository.findById(10L)).thenReturn(Optional.of(post));
+        assertThrows(AccessDeniedException.class, () -> authorizationService.getPostForModificationOrThrow(10L));
+    }
+
+    @Test
+    @DisplayName("getPostForModificationOrThrow should throw ResourceNotFoundException if post does not exist")
+    void getPostForModificationOrThrow_whenPostNotFound_shouldThrowResourceNotFoundException() {
+        mockSecurityContext(adminUser);
+        when(postRepository.findById(10L)).thenReturn(Optional.empty());
+        assertThrows(ResourceNotFoundException.class, () -> authorizationService.getPostForModificationOrThrow(10L));
+    }
+
     @Test
     @DisplayName("checkAdmin should allow admin user")
     void checkAdmin_whenUserIsAdmin_shouldNotThrow() {
@@ -119,4 +166,24 @@ class AuthorizationServiceTest {
         mockSecurityContext(regularUser);
         assertThrows(AccessDeniedException.class, () -> authorizationService.checkAdmin());
     }
+
+    @Test
+    @DisplayName("getCurrentUserOrThrow should resolve the user from the principal without a query")
+    void getCurrentUserOrThrow_shouldUseReferenceFromPrincipal() {
+        mockSecurityContext(regularUser);
+        when(userRepository.getReferenceById(2L)).thenReturn(regularUser);
+
+        assertEquals(regularUser, authorizationService.getCurrentUserOrThrow());
+        verify(userRepository, never()).findByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("getCurrentUserOrThrow should throw AccessDeniedException when nobody is authenticated")
+    void getCurrentUserOrThrow_whenAnonymous_shouldThrow() {
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(null);
+        SecurityContextHolder.setContext(securityContext);
+
+        assertThrows(AccessDeniedException.class, () -> authorizationService.getCurrentUserOrThrow());
+    }
 }
\ No newline at end of file
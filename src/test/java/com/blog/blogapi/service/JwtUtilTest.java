@@ -1,10 +1,101 @@
 package com.blog.blogapi.service;
 
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.ActiveProfiles;
-
-@SpringBootTest
-@ActiveProfiles("test")
-public class JwtUtilTest {
-    // ... existing code ...
-} 
\ No newline at end of file
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.blog.blogapi.model.Role;
+import com.blog.blogapi.model.User;
+import com.blog.blogapi.security.JwtUtil;
+import com.blog.blogapi.security.UserDetailsImpl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "this-is-a-super-secure-test-secret-for-jwt-that-is-long-enough";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(SECRET, 100, meterRegistry);
+
+        user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+        user.setEmail("testuser@example.com");
+        user.setPassword("encoded");
+        user.setRole(Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("parseValidClaims should return subject and role of a generated token")
+    void parseValidClaims_shouldReturnClaims() {
+        String token = jwtUtil.generateToken(user);
+
+        Claims claims = jwtUtil.parseValidClaims(token);
+
+        assertEquals("testuser", claims.getSubject());
+        assertEquals("ROLE_ADMIN", claims.get("role", String.class));
+        assertTrue(jwtUtil.hasIdentityClaims(claims));
+        assertEquals(1L, jwtUtil.extractUserId(claims));
+        assertEquals(0, jwtUtil.extractTokenVersion(claims));
+        assertTrue(jwtUtil.isTokenValid(claims, UserDetailsImpl.build(user)));
+    }
+
+    @Test
+    @DisplayName("parseValidClaims should answer a repeated token from the cache")
+    void parseValidClaims_whenRepeated_shouldReuseVerifiedClaims() {
+        String token = jwtUtil.generateToken(user);
+
+        assertSame(jwtUtil.parseValidClaims(token), jwtUtil.parseValidClaims(token));
+    }
+
+    @Test
+    @DisplayName("parseValidClaims should time only the verifications that miss the cache")
+    void parseValidClaims_shouldRecordVerificationTimer() {
+        String token = jwtUtil.generateToken(user);
+
+        jwtUtil.parseValidClaims(token);
+        jwtUtil.parseValidClaims(token);
+
+        assertEquals(1, meterRegistry.get("jwt.verification").timer().count());
+    }
+
+    @Test
+    @DisplayName("parseValidClaims should reject a token signed with another key")
+    void parseValidClaims_whenForged_shouldThrow() {
+        String forged = new JwtUtil("another-secret-that-is-also-long-enough-for-hs256-signing").generateToken(user);
+
+        assertThrows(SignatureException.class, () -> jwtUtil.parseValidClaims(forged));
+    }
+
+    @Test
+    @DisplayName("parseValidClaims should reject an expired token")
+    void parseValidClaims_whenExpired_shouldThrow() {
+        String expired = Jwts.builder()
+                .setSubject("testuser")
+                .setIssuedAt(new Date(System.currentTimeMillis() - 20_000))
+                .setExpiration(new Date(System.currentTimeMillis() - 10_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseValidClaims(expired));
+    }
+}
@@ -0,0 +1,153 @@
+package com.blog.blogapi.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.blog.blogapi.model.LocalizationMessage;
+import com.blog.blogapi.repository.LocalizationMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class LocalizationCatalogTest {
+
+    @Mock
+    private LocalizationMessageRepository messageRepository;
+
+    private LocalizationCatalog localizationCatalog;
+
+    @BeforeEach
+    void setUp() {
+        localizationCatalog = new LocalizationCatalog(messageRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("message should fall back from the locale to English to the key")
+    void message_shouldFollowFallbackChain() {
+        when(messageRepository.findAll()).thenReturn(List.of(
+                new LocalizationMessage("greeting", "en", "Hello"),
+                new LocalizationMessage("greeting", "tr", "Merhaba"),
+                new LocalizationMessage("farewell", "en", "Goodbye")));
+
+        LocalizationCatalog.Snapshot snapshot = localizationCatalog.snapshot();
+
+        assertEquals("Merhaba", snapshot.message("greeting", "tr"));
+        assertEquals("Goodbye", snapshot.message("farewell", "tr"));
+        assertEquals("Goodbye", snapshot.message("farewell", "de"));
+        assertEquals("unknown.key", snapshot.message("unknown.key", "tr"));
+    }
+
+    @Test
+    @DisplayName("messages should return the locale's own messages only")
+    void messages_shouldNotIncludeFallbacks() {
+        when(messageRepository.findAll()).thenReturn(List.of(
+                new LocalizationMessage("greeting", "en", "Hello"),
+                new LocalizationMessage("greeting", "tr", "Merhaba"),
+                new LocalizationMessage("farewell", "en", "Goodbye")));
+
+        LocalizationCatalog.Snapshot snapshot = localizationCatalog.snapshot();
+
+        assertEquals(Map.of("greeting", "Merhaba"), snapshot.messages("tr"));
+        assertTrue(snapshot.messages("de").isEmpty());
+    }
+
+    @Test
+    @DisplayName("snapshot should load once and reload should swap in a new one")
+    void reload_shouldSwapSnapshot() {
+        when(messageRepository.findAll())
+                .thenReturn(List.of(new LocalizationMessage("greeting", "en", "Hello")))
+                .thenReturn(List.of(new LocalizationMessage("greeting", "en", "Hi")));
+
+        LocalizationCatalog.Snapshot before = localizationCatalog.snapshot();
+        assertSame(before, localizationCatalog.snapshot());
+        localizationCatalog.reload();
+
+        assertEquals("Hello", before.message("greeting", "en"));
+        assertEquals("Hi", localizationCatalog.snapshot().message("greeting", "en"));
+        verify(messageRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("refresh should patch one message and rebuild only its locale")
+    void refresh_shouldPatchOnlyThatLocale() {
+        when(messageRepository.findAll()).thenReturn(List.of(
+                new LocalizationMessage("greeting", "en", "Hello"),
+                new LocalizationMessage("greeting", "tr", "Merhaba"),
+                new LocalizationMessage("farewell", "tr", "Hoşça kal")));
+        when(messageRepository.findByKeyAndLocale("greeting", "tr"))
+                .thenReturn(Optional.of(new LocalizationMessage("greeting", "tr", "Selam")));
+        when(messageRepository.findByKeyAndLocale("farewell", "tr")).thenReturn(Optional.empty());
+        LocalizationCatalog.Snapshot before = localizationCatalog.snapshot();
+
+        localizationCatalog.refresh("tr", "greeting");
+        LocalizationCatalog.Snapshot after = localizationCatalog.refresh("tr", "farewell");
+
+        assertEquals(Map.of("greeting", "Selam"), after.messages("tr"));
+        assertEquals("Merhaba", before.message("greeting", "tr"));
+        assertSame(before.bundle("en"), after.bundle("en"));
+        assertNotEquals(before.bundle("tr").version(), after.bundle("tr").version());
+        verify(messageRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("reloadLocale should re-read one locale and drop it when it has no messages left")
+    void reloadLocale_shouldReplaceOneLocale() {
+        when(messageRepository.findAll()).thenReturn(List.of(
+                new LocalizationMessage("greeting", "en", "Hello"),
+                new LocalizationMessage("greeting", "tr", "Merhaba")));
+        when(messageRepository.findByLocale("tr")).thenReturn(List.of());
+        LocalizationCatalog.Snapshot before = localizationCatalog.snapshot();
+
+        LocalizationCatalog.Snapshot after = localizationCatalog.reloadLocale("tr");
+
+        assertEquals("Hello", after.message("greeting", "tr"));
+        assertEquals(Map.of("en", before.bundle("en").version()), after.versions());
+    }
+
+    @Test
+    @DisplayName("bundle should carry sorted JSON, its gzip and a content version")
+    void bundle_shouldBePreSerialized() throws IOException {
+        when(messageRepository.findAll())
+                .thenReturn(List.of(
+                        new LocalizationMessage("b.key", "tr", "İkinci"),
+                        new LocalizationMessage("a.key", "tr", "Birinci")))
+                .thenReturn(List.of(
+                        new LocalizationMessage("a.key", "tr", "Birinci"),
+                        new LocalizationMessage("b.key", "tr", "İkinci")))
+                .thenReturn(List.of(new LocalizationMessage("a.key", "tr", "Değişti")));
+
+        LocalizationCatalog.Bundle bundle = localizationCatalog.snapshot().bundle("tr");
+        LocalizationCatalog.Bundle sameContent = localizationCatalog.reload().bundle("tr");
+        LocalizationCatalog.Bundle changed = localizationCatalog.reload().bundle("tr");
+
+        assertEquals("{\"a.key\":\"Birinci\",\"b.key\":\"İkinci\"}",
+                new String(bundle.json(), StandardCharsets.UTF_8));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bundle.gzipped()))) {
+            assertArrayEquals(bundle.json(), in.readAllBytes());
+        }
+        assertEquals(16, bundle.version().length());
+        assertEquals(bundle.version(), sameContent.version());
+        assertNotEquals(bundle.version(), changed.version());
+        assertEquals(Map.of("tr", changed.version()), localizationCatalog.snapshot().versions());
+        assertEquals("{}", new String(localizationCatalog.snapshot().bundle("de").json(), StandardCharsets.UTF_8));
+    }
+}
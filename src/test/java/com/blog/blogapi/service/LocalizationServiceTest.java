@@ -0,0 +1,130 @@
+package com.blog.blogapi.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.blog.blogapi.dto.LocalizationImportResult;
+import com.blog.blogapi.exception.InvalidRequestException;
+import com.blog.blogapi.invalidation.CacheInvalidator;
+import com.blog.blogapi.invalidation.InvalidationEvent;
+import com.blog.blogapi.model.LocalizationMessage;
+import com.blog.blogapi.repository.LocalizationMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class LocalizationServiceTest {
+
+    @Mock
+    private LocalizationMessageRepository messageRepository;
+
+    @Mock
+    private LocalizationCatalog localizationCatalog;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    private LocalizationService localizationService;
+
+    @BeforeEach
+    void setUp() {
+        localizationService = new LocalizationService(messageRepository, localizationCatalog, cacheInvalidator,
+                new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("importMessages should flatten nested objects and reload the locale once")
+    void importMessages_shouldUpsertFlattenedKeys() {
+        String json = "{\"common\":{\"save\":\"Kaydet\",\"nested\":{\"deep\":\"Derin\"}},\"title\":\"Başlık\"}";
+
+        LocalizationImportResult result = localizationService.importMessages("tr", body(json));
+
+        assertEquals(3, result.getMessages());
+        verify(messageRepository).upsertMessages("tr", Map.of(
+                "common.save", "Kaydet", "common.nested.deep", "Derin", "title", "Başlık"));
+        verify(localizationCatalog).reloadLocale("tr");
+        verify(cacheInvalidator).publish(InvalidationEvent.LOCALIZATION, "tr");
+    }
+
+    @Test
+    @DisplayName("importMessages should reject arrays and blank values before writing")
+    void importMessages_whenInvalid_shouldThrowException() {
+        assertThrows(InvalidRequestException.class,
+                () -> localizationService.importMessages("tr", body("{\"list\":[\"a\"]}")));
+        assertThrows(InvalidRequestException.class,
+                () -> localizationService.importMessages("tr", body("{\"empty\":\" \"}")));
+        assertThrows(InvalidRequestException.class,
+                () -> localizationService.importMessages("tr", body("[\"a\"]")));
+        assertThrows(InvalidRequestException.class,
+                () -> localizationService.importMessages("tr", body("{\"broken\":")));
+        verifyNoInteractions(messageRepository, localizationCatalog);
+    }
+
+    @Test
+    @DisplayName("exportMessages should nest keys on dots in the shape import reads")
+    void exportMessages_shouldNestKeys() throws IOException {
+        when(localizationCatalog.snapshot()).thenReturn(LocalizationCatalog.Snapshot.build(List.of(
+                new LocalizationMessage("common.save", "tr", "Kaydet"),
+                new LocalizationMessage("common", "tr", "Ortak"),
+                new LocalizationMessage("common.cancel", "tr", "İptal"),
+                new LocalizationMessage("title", "tr", "Başlık")), new ObjectMapper()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        localizationService.exportMessages("tr", out);
+
+        assertEquals(Map.of("common", "Ortak", "common.cancel", "İptal", "common.save", "Kaydet", "title", "Başlık"),
+                new ObjectMapper().readValue(out.toByteArray(), Map.class));
+    }
+
+    @Test
+    @DisplayName("exportMessages should produce nested objects")
+    void exportMessages_shouldWriteNestedObjects() throws IOException {
+        when(localizationCatalog.snapshot()).thenReturn(LocalizationCatalog.Snapshot.build(List.of(
+                new LocalizationMessage("common.save", "tr", "Kaydet"),
+                new LocalizationMessage("common.cancel", "tr", "İptal")), new ObjectMapper()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        localizationService.exportMessages("tr", out);
+
+        assertEquals(Map.of("common", Map.of("cancel", "İptal", "save", "Kaydet")),
+                new ObjectMapper().readValue(out.toByteArray(), Map.class));
+    }
+
+    @Test
+    @DisplayName("saveMessage moving a message to another key should refresh both keys in the catalog")
+    void saveMessage_whenKeyChanged_shouldRefreshOldAndNewKey() {
+        LocalizationMessage existing = new LocalizationMessage("common.save", "tr", "Kaydet");
+        existing.setId(4L);
+        LocalizationMessage update = new LocalizationMessage("common.store", "tr", "Kaydet");
+        update.setId(4L);
+        when(messageRepository.findById(4L)).thenReturn(Optional.of(existing));
+        when(messageRepository.save(update)).thenReturn(update);
+
+        localizationService.saveMessage(update);
+
+        verify(localizationCatalog).refresh("tr", "common.save");
+        verify(localizationCatalog).refresh("tr", "common.store");
+        verify(cacheInvalidator).publish(InvalidationEvent.LOCALIZATION, "tr|common.save");
+        verify(cacheInvalidator).publish(InvalidationEvent.LOCALIZATION, "tr|common.store");
+    }
+
+    private static ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,86 @@
+package com.blog.blogapi.service;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.blog.blogapi.exception.PasswordHashingBusyException;
+import com.blog.blogapi.security.AdaptiveBCryptPasswordEncoder;
+import com.blog.blogapi.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordEncoderTest {
+
+    @Test
+    @DisplayName("upgradeEncoding should flag only hashes with a lower cost")
+    void upgradeEncoding_whenCostLower_shouldReturnTrue() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(11);
+
+        assertTrue(encoder.upgradeEncoding("$2a$10$abcdefghijklmnopqrstuv"));
+        assertFalse(encoder.upgradeEncoding("$2a$12$abcdefghijklmnopqrstuv"));
+        assertFalse(encoder.upgradeEncoding("$2a$11$abcdefghijklmnopqrstuv"));
+        assertFalse(encoder.upgradeEncoding("plain"));
+    }
+
+    @Test
+    @DisplayName("calibrated should never go below the minimum cost")
+    void calibrated_whenTargetTiny_shouldUseMinimumStrength() {
+        assertEquals(10, AdaptiveBCryptPasswordEncoder.calibrated(Duration.ofNanos(1)).getStrength());
+    }
+
+    @Test
+    @DisplayName("bounded encoder should hash on its own pool")
+    void encode_shouldDelegate() {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new AdaptiveBCryptPasswordEncoder(10), 1,
+                1, Duration.ofSeconds(10), new SimpleMeterRegistry())) {
+            String hash = encoder.encode("secret");
+
+            assertTrue(encoder.matches("secret", hash));
+            assertFalse(encoder.matches("other", hash));
+        }
+    }
+
+    @Test
+    @DisplayName("bounded encoder should turn callers away when the pool is full")
+    void encode_whenPoolFull_shouldThrowBusy() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofMillis(50),
+                meterRegistry)) {
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("first"));
+            started.await();
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("queued"));
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("rejected"));
+
+            assertEquals(3.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        } finally {
+            release.countDown();
+        }
+    }
+}
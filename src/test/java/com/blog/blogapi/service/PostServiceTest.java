@@ -1,36 +1,60 @@
 package com.blog.blogapi.service;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import com.blog.blogapi.dto.CursorPage;
 import com.blog.blogapi.dto.PostRequest;
 import com.blog.blogapi.dto.PostResponse;
+import com.blog.blogapi.dto.PostSummary;
+import com.blog.blogapi.exception.InvalidRequestException;
 import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.CacheInvalidator;
 import com.blog.blogapi.model.Post;
 import com.blog.blogapi.model.Role;
 import com.blog.blogapi.model.Tag;
 import com.blog.blogapi.model.User;
 import com.blog.blogapi.repository.PostRepository;
+import com.blog.blogapi.repository.PostSummaryProjection;
+import com.blog.blogapi.repository.PostTagLink;
 import com.blog.blogapi.repository.TagRepository;
+import com.blog.blogapi.search.PostSearchIndex;
+import com.blog.blogapi.search.PostTagIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
@@ -44,6 +68,20 @@ class PostServiceTest {
     @Mock
     private AuthorizationService authorizationService;
 
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostTagIndex postTagIndex;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private PostResponseMapper postResponseMapper = new PostResponseMapper(meterRegistry);
+
     @InjectMocks
     private PostService postService;
 
@@ -71,16 +109,181 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("getPostsByUser should return user posts")
-    void getPostsByUser_shouldReturnUserPosts() {
-        when(postRepository.findByAuthor_Id(1L)).thenReturn(List.of(post));
+    @DisplayName("getPostsByUser should return summaries with tag ids and a cursor for the next page")
+    void getPostsByUser_withBlankCursor_shouldReturnSummariesAndNextCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(postRepository.findSummariesByAuthor(1L, PostService.EXCERPT_LENGTH + 1, PageRequest.of(0, 2)))
+                .thenReturn(List.of(summaryRow(5L, createdAt), summaryRow(4L, createdAt.minusDays(1))));
+        when(postRepository.findTagLinksByPostIds(List.of(5L))).thenReturn(List.of(tagLink(5L, 1L)));
+
+        CursorPage<PostSummary> page = postService.getPostsByUser(1L, null, 1);
+
+        assertEquals(1, page.getContent().size());
+        PostSummary summary = page.getContent().get(0);
+        assertEquals(5L, summary.getId());
+        assertEquals("Test Title", summary.getTitle());
+        assertEquals("Test Content", summary.getExcerpt());
+        assertEquals(List.of(1L), summary.getTagIds());
+        assertTrue(page.isHasNext());
+        assertEquals(CursorCodec.encode(createdAt, 5L), page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("getPostsByUser should continue strictly after the cursor position")
+    void getPostsByUser_withCursor_shouldQueryAfterPosition() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(postRepository.findSummariesByAuthorBefore(1L, createdAt, 5L, PostService.EXCERPT_LENGTH + 1,
+                PageRequest.of(0, 11))).thenReturn(List.of());
+
+        CursorPage<PostSummary> page = postService.getPostsByUser(1L, CursorCodec.encode(createdAt, 5L), 10);
+
+        assertTrue(page.getContent().isEmpty());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        verify(postRepository, never()).findTagLinksByPostIds(any());
+    }
+
+    @Test
+    @DisplayName("getPostsByUser should reject a cursor it did not issue")
+    void getPostsByUser_withGarbageCursor_shouldThrowInvalidRequest() {
+        assertThrows(InvalidRequestException.class,
+                () -> postService.getPostsByUser(1L, CursorCodec.encode(42L), 10));
+    }
+
+    @Test
+    @DisplayName("excerpt should cut long content back to a whole word")
+    void excerpt_withLongContent_shouldEndOnWordBoundary() {
+        String content = "word ".repeat(60);
+
+        String excerpt = PostService.excerpt(content.substring(0, PostService.EXCERPT_LENGTH + 1));
+
+        assertTrue(excerpt.endsWith("word..."));
+        assertTrue(excerpt.length() <= PostService.EXCERPT_LENGTH + 3);
+        assertEquals("Short", PostService.excerpt("Short"));
+    }
+
+    @Test
+    @DisplayName("getPostsAfter should start from the newest post and hand out a cursor")
+    void getPostsAfter_withBlankCursor_shouldReturnFirstSliceAndNextCursor() {
+        when(postRepository.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(post), PageRequest.of(0, 1), true));
+
+        CursorPage<PostResponse> first = postService.getPostsAfter("", 1);
+
+        assertEquals(1, first.getContent().size());
+        assertTrue(first.isHasNext());
+        assertNotNull(first.getNextCursor());
+
+        when(postRepository.findByIdLessThanOrderByIdDesc(1L, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+
+        CursorPage<PostResponse> second = postService.getPostsAfter(first.getNextCursor(), 1);
+
+        assertTrue(second.getContent().isEmpty());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        verify(postRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getPostsAfter should keep the page size between 1 and the maximum")
+    void getPostsAfter_withOutOfRangeSize_shouldClampPageSize() {
+        when(postRepository.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+        when(postRepository.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, 100)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 100), false));
+
+        assertEquals(1, postService.getPostsAfter(null, 0).getSize());
+        assertEquals(1, postService.getPostsAfter(null, -5).getSize());
+        assertEquals(100, postService.getPostsAfter(null, 1_000_000).getSize());
+    }
+
+    @Test
+    @DisplayName("getPostsAfter should reject a cursor it did not issue")
+    void getPostsAfter_withGarbageCursor_shouldThrowInvalidRequest() {
+        assertThrows(InvalidRequestException.class, () -> postService.getPostsAfter("not-a-cursor!", 10));
+        verify(postRepository, never()).findByIdLessThanOrderByIdDesc(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("searchPosts should hydrate only the requested page of index hits, in rank order")
+    void searchPosts_shouldHydrateIndexHitsForPage() {
+        Post older = new Post();
+        older.setId(2L);
+        older.setTitle("Older");
+        older.setContent("Older content");
+        Post newer = new Post();
+        newer.setId(3L);
+        newer.setTitle("Newer");
+        newer.setContent("Newer content");
+
+        when(postSearchIndex.search("content")).thenReturn(List.of(3L, 2L, 1L));
+        when(postRepository.findByIdIn(List.of(3L, 2L))).thenReturn(List.of(older, newer));
+
+        Page<PostResponse> page = postService.searchPosts("content", PageRequest.of(0, 2));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(3L, 2L), page.getContent().stream().map(PostResponse::getId).toList());
+        assertNull(page.getContent().get(0).getContent());
+        assertNotNull(page.getContent().get(0).getSnippet());
+    }
+
+    @Test
+    @DisplayName("searchPosts should not touch the database when the index has no hits")
+    void searchPosts_withNoHits_shouldReturnEmptyPage() {
+        when(postSearchIndex.search("nothing")).thenReturn(List.of());
+
+        Page<PostResponse> page = postService.searchPosts("nothing", PageRequest.of(0, 10));
+
+        assertTrue(page.isEmpty());
+        verify(postRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("getPostsByTags should page the bitmap matches newest first and count them all")
+    void getPostsByTags_shouldHydrateOnlyThePage() {
+        PostTagIndex tagIndex = new PostTagIndex();
+        tagIndex.index(1L, List.of(1L, 2L));
+        tagIndex.index(2L, List.of(1L));
+        tagIndex.index(3L, List.of(1L, 2L));
+        tagIndex.index(4L, List.of(1L, 2L));
+        when(postTagIndex.match(List.of(1L, 2L), true)).thenReturn(tagIndex.match(List.of(1L, 2L), true));
+
+        Post newest = new Post();
+        newest.setId(4L);
+        newest.setTitle("Newest");
+        Post middle = new Post();
+        middle.setId(3L);
+        middle.setTitle("Middle");
+        when(postRepository.findByIdIn(List.of(4L, 3L))).thenReturn(List.of(middle, newest));
+
+        Page<PostResponse> page = postService.getPostsByTags(List.of(1L, 2L), "ALL", 0, 2);
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(4L, 3L), page.getContent().stream().map(PostResponse::getId).toList());
+    }
 
-        List<PostResponse> responses = postService.getPostsByUser(1L);
+    @Test
+    @DisplayName("getPostsByTags should clamp a negative page and an out-of-range size")
+    void getPostsByTags_withOutOfRangePaging_shouldClamp() {
+        PostTagIndex tagIndex = new PostTagIndex();
+        tagIndex.index(1L, List.of(1L));
+        when(postTagIndex.match(List.of(1L), true)).thenReturn(tagIndex.match(List.of(1L), true));
+        when(postRepository.findByIdIn(List.of(1L))).thenReturn(List.of(post));
+
+        Page<PostResponse> tooLarge = postService.getPostsByTags(List.of(1L), "all", -3, 10_000);
+        Page<PostResponse> tooSmall = postService.getPostsByTags(List.of(1L), "all", 0, 0);
+
+        assertEquals(PageRequest.of(0, 100), tooLarge.getPageable());
+        assertEquals(PageRequest.of(0, 1), tooSmall.getPageable());
+    }
 
-        assertEquals(1, responses.size());
-        assertEquals("Test Title", responses.get(0).getTitle());
-        assertEquals("testuser", responses.get(0).getAuthorUsername());
-        verify(postRepository).findByAuthor_Id(1L);
+    @Test
+    @DisplayName("getPostsByTags should reject an unknown match mode")
+    void getPostsByTags_withUnknownMatch_shouldThrowInvalidRequest() {
+        assertThrows(InvalidRequestException.class,
+                () -> postService.getPostsByTags(List.of(1L), "some", 0, 10));
+        verify(postTagIndex, never()).match(any(), anyBoolean());
     }
 
     @Test
@@ -91,6 +294,7 @@ class PostServiceTest {
         assertNotNull(response);
         assertEquals("Test Title", response.getTitle());
         verify(postRepository).findById(1L);
+        assertEquals(1, meterRegistry.get("post.response.mapping").timer().count());
     }
 
     @Test
@@ -123,6 +327,9 @@ class PostServiceTest {
         assertEquals("testuser", response.getAuthorUsername());
         assertEquals(1, response.getTags().size());
         verify(postRepository).save(any(Post.class));
+        verify(postSearchIndex).index(null, "New Post", "New Content");
+        verify(postTagIndex).index(null, List.of(1L));
+        verify(tagRepository).adjustPostCounts(Set.of(1L), 1);
     }
 
     @Test
@@ -137,9 +344,8 @@ class PostServiceTest {
         Post existingPost = new Post();
         existingPost.setId(postId);
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+        when(authorizationService.getPostForModificationOrThrow(postId)).thenReturn(existingPost);
         when(postRepository.save(any(Post.class))).thenReturn(existingPost);
-        doNothing().when(authorizationService).checkPostOwnerOrAdmin(postId);
 
         // When
         PostResponse response = postService.updatePost(postId, request);
@@ -147,8 +353,65 @@ class PostServiceTest {
         // Then
         assertNotNull(response);
         assertEquals("Updated Title", response.getTitle());
-        verify(authorizationService).checkPostOwnerOrAdmin(postId);
+        verify(authorizationService).getPostForModificationOrThrow(postId);
+        verify(postRepository, never()).findById(anyLong());
         verify(postRepository).save(any(Post.class));
+        verify(tagRepository, never()).adjustPostCounts(any(), anyInt());
+        verify(tagRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("updatePost should keep the tag collection untouched when the tag set is unchanged")
+    void updatePost_whenTagsUnchanged_shouldSkipTagLookup() {
+        Post existingPost = new Post();
+        existingPost.setId(1L);
+        existingPost.setTags(new HashSet<>(Set.of(tag)));
+        Set<Tag> collection = existingPost.getTags();
+
+        PostRequest request = new PostRequest();
+        request.setTitle("Updated Title");
+        request.setContent("Updated Content");
+        request.setTagIds(List.of(1L));
+
+        when(authorizationService.getPostForModificationOrThrow(1L)).thenReturn(existingPost);
+        when(postRepository.save(existingPost)).thenReturn(existingPost);
+
+        postService.updatePost(1L, request);
+
+        assertSame(collection, existingPost.getTags());
+        assertEquals(Set.of(tag), existingPost.getTags());
+        verify(tagRepository, never()).findAllById(any());
+        verify(tagRepository, never()).adjustPostCounts(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("updatePost should move tag counters only for added and removed tags")
+    void updatePost_whenTagsChange_shouldAdjustCountersByDifference() {
+        Tag kept = new Tag();
+        kept.setId(2L);
+        kept.setName("kept");
+        Tag added = new Tag();
+        added.setId(3L);
+        added.setName("added");
+
+        Post existingPost = new Post();
+        existingPost.setId(1L);
+        existingPost.setTags(new HashSet<>(Set.of(tag, kept)));
+
+        PostRequest request = new PostRequest();
+        request.setTitle("Updated Title");
+        request.setContent("Updated Content");
+        request.setTagIds(List.of(2L, 3L));
+
+        when(authorizationService.getPostForModificationOrThrow(1L)).thenReturn(existingPost);
+        when(tagRepository.findAllById(Set.of(3L))).thenReturn(List.of(added));
+        when(postRepository.save(existingPost)).thenReturn(existingPost);
+
+        postService.updatePost(1L, request);
+
+        assertEquals(Set.of(kept, added), existingPost.getTags());
+        verify(tagRepository).adjustPostCounts(Set.of(3L), 1);
+        verify(tagRepository).adjustPostCounts(Set.of(1L), -1);
     }
 
     @Test
@@ -157,15 +420,15 @@ class PostServiceTest {
         // Given
         Long postId = 1L;
         PostRequest request = new PostRequest();
-        doThrow(new ResourceNotFoundException("Post", "id", postId))
-                .when(authorizationService).checkPostOwnerOrAdmin(postId);
+        when(authorizationService.getPostForModificationOrThrow(postId))
+                .thenThrow(new ResourceNotFoundException("Post", "id", postId));
 
         // Then
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                 () -> postService.updatePost(postId, request));
         assertNotNull(exception);
-        verify(authorizationService).checkPostOwnerOrAdmin(postId);
-        verify(postRepository, never()).findById(anyLong());
+        verify(authorizationService).getPostForModificationOrThrow(postId);
+        verify(postRepository, never()).save(any(Post.class));
     }
 
     @Test
@@ -174,14 +437,19 @@ class PostServiceTest {
         // Given
         Long postId = 1L;
         doNothing().when(authorizationService).checkPostOwnerOrAdmin(postId);
-        doNothing().when(postRepository).deleteById(postId);
+        when(postRepository.deleteTagLinksByPostId(postId)).thenReturn(2);
+        when(postRepository.deletePostById(postId)).thenReturn(1);
 
         // When
         postService.deletePost(postId);
 
         // Then
         verify(authorizationService).checkPostOwnerOrAdmin(postId);
-        verify(postRepository).deleteById(postId);
+        verify(tagRepository).decrementPostCountsOfPost(postId);
+        verify(postRepository).deleteTagLinksByPostId(postId);
+        verify(postRepository).deletePostById(postId);
+        verify(postSearchIndex).remove(postId);
+        verify(postTagIndex).remove(postId);
     }
 
     @Test
@@ -197,6 +465,44 @@ class PostServiceTest {
                 () -> postService.deletePost(postId));
         assertNotNull(exception);
         verify(authorizationService).checkPostOwnerOrAdmin(postId);
-        verify(postRepository, never()).deleteById(anyLong());
+        verify(postRepository, never()).deletePostById(anyLong());
+    }
+
+    private static PostSummaryProjection summaryRow(Long id, LocalDateTime createdAt) {
+        return new PostSummaryProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return "Test Title";
+            }
+
+            @Override
+            public String getExcerpt() {
+                return "Test Content";
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+
+    private static PostTagLink tagLink(Long postId, Long tagId) {
+        return new PostTagLink() {
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+
+            @Override
+            public Long getTagId() {
+                return tagId;
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,189 @@
+package com.blog.blogapi.service;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.blog.blogapi.dto.TagBulkRenameRequest;
+import com.blog.blogapi.dto.TagBulkResult;
+import com.blog.blogapi.exception.InvalidRequestException;
+import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.CacheInvalidator;
+import com.blog.blogapi.invalidation.InvalidationEvent;
+import com.blog.blogapi.model.Tag;
+import com.blog.blogapi.repository.PostRepository;
+import com.blog.blogapi.repository.TagRepository;
+import com.blog.blogapi.search.PostTagIndex;
+
+@ExtendWith(MockitoExtension.class)
+class TagBulkServiceTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache postCache;
+
+    @Mock
+    private TagCatalog tagCatalog;
+
+    @Mock
+    private PostTagIndex postTagIndex;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TagBulkService tagBulkService;
+
+    @BeforeEach
+    void setUp() {
+        tagBulkService = new TagBulkService(tagRepository, postRepository, authorizationService, cacheManager,
+                tagCatalog, postTagIndex, cacheInvalidator, transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("mergeTags should relink posts in batches and refresh caches once")
+    void mergeTags_shouldRelinkInBatches() {
+        Set<Long> sources = Set.of(2L);
+        when(tagRepository.findAllById(Set.of(2L, 1L))).thenReturn(List.of(tag(1L, "java"), tag(2L, "Java")));
+        when(postRepository.findPostIdsTaggedAny(sources, 2))
+                .thenReturn(List.of(10L, 11L))
+                .thenReturn(List.of(12L))
+                .thenReturn(List.of());
+        when(cacheManager.getCache("posts")).thenReturn(postCache);
+
+        TagBulkResult result = tagBulkService.mergeTags(List.of(2L, 1L), 1L);
+
+        assertEquals(1, result.getTags());
+        assertEquals(3, result.getPosts());
+        assertEquals(2, result.getBatches());
+        verify(postRepository).copyTagLinks(sources, 1L, List.of(10L, 11L));
+        verify(postRepository).deleteTagLinks(sources, List.of(10L, 11L));
+        verify(postRepository).copyTagLinks(sources, 1L, List.of(12L));
+        verify(postRepository).deleteTagLinks(sources, List.of(12L));
+        verify(tagRepository).deleteByIdIn(sources);
+        verify(tagRepository).recountPostCount(1L);
+        verify(postTagIndex).mergeTags(sources, 1L);
+        verify(postCache).clear();
+        verify(tagCatalog).reload();
+        verify(cacheInvalidator).publish(InvalidationEvent.TAGS, null);
+    }
+
+    @Test
+    @DisplayName("mergeTags should relink posts linked after the batches in the transaction deleting the tags")
+    void mergeTags_whenLinkedMeanwhile_shouldRelinkBeforeDelete() {
+        Set<Long> sources = Set.of(2L);
+        when(tagRepository.findAllById(Set.of(2L, 1L))).thenReturn(List.of(tag(1L, "java"), tag(2L, "Java")));
+        when(postRepository.findPostIdsTaggedAny(sources, 2))
+                .thenReturn(List.of(10L))
+                .thenReturn(List.of())
+                .thenReturn(List.of(13L))
+                .thenReturn(List.of());
+        when(cacheManager.getCache("posts")).thenReturn(postCache);
+
+        TagBulkResult result = tagBulkService.mergeTags(List.of(2L, 1L), 1L);
+
+        assertEquals(2, result.getPosts());
+        assertEquals(2, result.getBatches());
+        InOrder inOrder = inOrder(tagRepository, postRepository);
+        inOrder.verify(tagRepository).lockByIdIn(sources);
+        inOrder.verify(postRepository).copyTagLinks(sources, 1L, List.of(13L));
+        inOrder.verify(postRepository).deleteTagLinks(sources, List.of(13L));
+        inOrder.verify(tagRepository).deleteByIdIn(sources);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("mergeTags should reject a merge of a tag into itself")
+    void mergeTags_whenOnlyTarget_shouldThrowException() {
+        assertThrows(InvalidRequestException.class, () -> tagBulkService.mergeTags(List.of(1L), 1L));
+        verifyNoInteractions(tagRepository, postRepository);
+    }
+
+    @Test
+    @DisplayName("deleteTags should fail before touching links when a tag is missing")
+    void deleteTags_whenTagMissing_shouldThrowException() {
+        when(tagRepository.findAllById(Set.of(1L, 3L))).thenReturn(List.of(tag(1L, "java")));
+
+        var exception = assertThrows(ResourceNotFoundException.class,
+                () -> tagBulkService.deleteTags(List.of(1L, 3L)));
+
+        assertEquals("Tag not found with id : '3'", exception.getMessage());
+        verify(authorizationService).checkAdmin();
+        verify(postRepository, never()).findPostIdsTaggedAny(Set.of(1L, 3L), 2);
+    }
+
+    @Test
+    @DisplayName("deleteTags should unlink posts, delete the tags and drop them from the index")
+    void deleteTags_shouldUnlinkAndDelete() {
+        Set<Long> ids = Set.of(1L);
+        when(tagRepository.findAllById(ids)).thenReturn(List.of(tag(1L, "java")));
+        when(postRepository.findPostIdsTaggedAny(ids, 2)).thenReturn(List.of(10L)).thenReturn(List.of());
+        when(cacheManager.getCache("posts")).thenReturn(postCache);
+
+        TagBulkResult result = tagBulkService.deleteTags(List.of(1L));
+
+        assertEquals(1, result.getPosts());
+        verify(postRepository).deleteTagLinks(ids, List.of(10L));
+        verify(tagRepository).deleteByIdIn(ids);
+        verify(postTagIndex).removeTag(1L);
+        verify(postCache).clear();
+        verify(tagCatalog).reload();
+    }
+
+    @Test
+    @DisplayName("renameTags should rename the loaded tags and reload the catalog")
+    void renameTags_shouldRenameTags() {
+        Tag java = tag(1L, "java");
+        when(tagRepository.findAllById(Set.of(1L))).thenReturn(List.of(java));
+        when(cacheManager.getCache("posts")).thenReturn(postCache);
+        TagBulkRenameRequest.Rename rename = new TagBulkRenameRequest.Rename();
+        rename.setId(1L);
+        rename.setName("Java");
+
+        TagBulkResult result = tagBulkService.renameTags(List.of(rename));
+
+        assertEquals(1, result.getTags());
+        assertEquals("Java", java.getName());
+        verify(postCache).clear();
+        verify(tagCatalog).reload();
+    }
+
+    private Tag tag(Long id, String name) {
+        Tag tag = new Tag();
+        tag.setId(id);
+        tag.setName(name);
+        return tag;
+    }
+}
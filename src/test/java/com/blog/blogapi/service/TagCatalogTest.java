@@ -0,0 +1,131 @@
+package com.blog.blogapi.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.blog.blogapi.model.Tag;
+import com.blog.blogapi.repository.TagRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class TagCatalogTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private TagCatalog tagCatalog;
+
+    @BeforeEach
+    void setUp() {
+        tagCatalog = new TagCatalog(tagRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("snapshot should load once and then answer from memory")
+    void snapshot_shouldLoadOnce() {
+        when(tagRepository.findAll()).thenReturn(List.of(tag(2L, "spring"), tag(1L, "java")));
+
+        TagCatalog.Snapshot first = tagCatalog.snapshot();
+        TagCatalog.Snapshot second = tagCatalog.snapshot();
+
+        assertSame(first, second);
+        verify(tagRepository, times(1)).findAll();
+        assertEquals(2, first.size());
+        assertEquals("java", first.nameOf(1L).orElseThrow());
+        assertEquals(2L, first.idOf("spring").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("snapshot should pre-serialize the list ordered by id and each tag")
+    void snapshot_shouldPreSerializeJson() {
+        when(tagRepository.findAll()).thenReturn(List.of(tag(2L, "spring"), tag(1L, "java")));
+
+        TagCatalog.Snapshot snapshot = tagCatalog.snapshot();
+
+        assertEquals("[{\"id\":1,\"name\":\"java\"},{\"id\":2,\"name\":\"spring\"}]",
+                new String(snapshot.json(), StandardCharsets.UTF_8));
+        assertEquals("{\"id\":2,\"name\":\"spring\"}",
+                new String(snapshot.json(2L).orElseThrow(), StandardCharsets.UTF_8));
+        assertTrue(snapshot.json(3L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("reload should swap in a new snapshot and leave the old one intact")
+    void reload_shouldSwapSnapshot() {
+        when(tagRepository.findAll())
+                .thenReturn(List.of(tag(1L, "java")))
+                .thenReturn(List.of(tag(1L, "kotlin")));
+
+        TagCatalog.Snapshot before = tagCatalog.snapshot();
+        tagCatalog.reload();
+        TagCatalog.Snapshot after = tagCatalog.snapshot();
+
+        assertNotSame(before, after);
+        assertEquals("java", before.nameOf(1L).orElseThrow());
+        assertEquals("kotlin", after.nameOf(1L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("refresh should re-read only the one tag")
+    void refresh_shouldPatchOneTag() {
+        when(tagRepository.findAll()).thenReturn(List.of(tag(1L, "java"), tag(2L, "spring")));
+        when(tagRepository.findById(2L)).thenReturn(Optional.of(tag(2L, "kotlin")));
+        when(tagRepository.findById(1L)).thenReturn(Optional.empty());
+        tagCatalog.snapshot();
+
+        tagCatalog.refresh(2L);
+        TagCatalog.Snapshot after = tagCatalog.refresh(1L);
+
+        assertEquals("[{\"id\":2,\"name\":\"kotlin\"}]", new String(after.json(), StandardCharsets.UTF_8));
+        assertEquals(2L, after.idOf("kotlin").orElseThrow());
+        assertTrue(after.nameOf(1L).isEmpty());
+        verify(tagRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("tags should return copies that cannot alter the snapshot")
+    void tags_shouldReturnCopies() {
+        when(tagRepository.findAll()).thenReturn(List.of(tag(1L, "java")));
+
+        tagCatalog.snapshot().tags().get(0).setName("changed");
+
+        assertEquals("java", tagCatalog.snapshot().tags().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("idsWithPrefix should match case- and Turkish-i-insensitively")
+    void idsWithPrefix_shouldFoldCase() {
+        when(tagRepository.findAll()).thenReturn(List.of(
+                tag(1L, "Java"), tag(2L, "javascript"), tag(3L, "İstanbul"), tag(4L, "ışık"), tag(5L, "kotlin")));
+
+        TagCatalog.Snapshot snapshot = tagCatalog.snapshot();
+
+        assertEquals(List.of(1L, 2L), snapshot.idsWithPrefix("JA"));
+        assertEquals(List.of(2L), snapshot.idsWithPrefix("javas"));
+        assertEquals(List.of(4L, 3L), snapshot.idsWithPrefix("i"));
+        assertEquals(List.of(3L), snapshot.idsWithPrefix("ist"));
+        assertTrue(snapshot.idsWithPrefix("rust").isEmpty());
+    }
+
+    private Tag tag(Long id, String name) {
+        Tag tag = new Tag();
+        tag.setId(id);
+        tag.setName(name);
+        return tag;
+    }
+}
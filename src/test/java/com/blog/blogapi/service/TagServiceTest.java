@@ -1,11 +1,13 @@
 package com.blog.blogapi.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,14 +17,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
 
 import com.blog.blogapi.dto.TagRequest;
 import com.blog.blogapi.dto.TagResponse;
 import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.CacheInvalidator;
+import com.blog.blogapi.invalidation.InvalidationEvent;
 import com.blog.blogapi.model.Tag;
 import com.blog.blogapi.repository.TagRepository;
+import com.blog.blogapi.search.PostTagIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 class TagServiceTest {
@@ -33,6 +43,21 @@ class TagServiceTest {
     @Mock
     private AuthorizationService authorizationService;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache postCache;
+
+    @Mock
+    private TagCatalog tagCatalog;
+
+    @Mock
+    private PostTagIndex postTagIndex;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
     @InjectMocks
     private TagService tagService;
 
@@ -50,37 +75,90 @@ class TagServiceTest {
     }
 
     @Test
-    @DisplayName("getAllTags should return all tags")
+    @DisplayName("getAllTags should return all tags from the catalog without querying")
     void getAllTags_shouldReturnAllTags() {
-        when(tagRepository.findAll()).thenReturn(List.of(tag));
+        when(tagCatalog.snapshot()).thenReturn(snapshotOf(tag));
 
         List<TagResponse> responses = tagService.getAllTags();
 
         assertEquals(1, responses.size());
         assertEquals("java", responses.get(0).getName());
-        verify(tagRepository).findAll();
+        verifyNoInteractions(tagRepository);
     }
 
     @Test
     @DisplayName("getTagById should return tag when found")
     void getTagById_whenFound_shouldReturnTag() {
-        when(tagRepository.findById(1L)).thenReturn(Optional.of(tag));
+        when(tagCatalog.snapshot()).thenReturn(snapshotOf(tag));
 
         TagResponse response = tagService.getTagById(1L);
 
         assertNotNull(response);
         assertEquals("java", response.getName());
-        verify(tagRepository).findById(1L);
+        verifyNoInteractions(tagRepository);
     }
 
     @Test
     @DisplayName("getTagById should throw exception when not found")
     void getTagById_whenNotFound_shouldThrowException() {
-        when(tagRepository.findById(1L)).thenReturn(Optional.empty());
+        when(tagCatalog.snapshot()).thenReturn(snapshotOf());
 
         var exception = assertThrows(ResourceNotFoundException.class, () -> tagService.getTagById(1L));
         assertEquals("Tag not found with id : '1'", exception.getMessage());
-        verify(tagRepository).findById(1L);
+    }
+
+    @Test
+    @DisplayName("getTagJson should throw exception when not found")
+    void getTagJson_whenNotFound_shouldThrowException() {
+        when(tagCatalog.snapshot()).thenReturn(snapshotOf(tag));
+
+        assertThrows(ResourceNotFoundException.class, () -> tagService.getTagJson(2L));
+    }
+
+    @Test
+    @DisplayName("getAllTagsWithCounts should read the denormalized counters")
+    void getAllTagsWithCounts_shouldIncludePostCounts() {
+        tag.setPostCount(12);
+        when(tagRepository.findAllByOrderByIdAsc()).thenReturn(List.of(tag));
+
+        List<TagResponse> responses = tagService.getAllTagsWithCounts();
+
+        assertEquals(1, responses.size());
+        assertEquals(12, responses.get(0).getPostCount());
+    }
+
+    @Test
+    @DisplayName("getTagCloud should cap the number of tags")
+    void getTagCloud_shouldCapLimit() {
+        when(tagRepository.findTagCloud(PageRequest.of(0, 200))).thenReturn(List.of(tag));
+
+        List<TagResponse> responses = tagService.getTagCloud(10_000);
+
+        assertEquals(1, responses.size());
+        verify(tagRepository).findTagCloud(PageRequest.of(0, 200));
+    }
+
+    @Test
+    @DisplayName("suggestTags should rank prefix matches by post count")
+    void suggestTags_shouldRankByPostCount() {
+        Tag javascript = new Tag();
+        javascript.setId(2L);
+        javascript.setName("javascript");
+        when(tagCatalog.snapshot()).thenReturn(snapshotOf(tag, javascript));
+        when(postTagIndex.postCounts(List.of(1L, 2L))).thenReturn(Map.of(1L, 3, 2L, 8));
+
+        List<TagResponse> responses = tagService.suggestTags("Ja", 10);
+
+        assertEquals(List.of("javascript", "java"), responses.stream().map(TagResponse::getName).toList());
+        assertEquals(8, responses.get(0).getPostCount());
+        verifyNoInteractions(tagRepository);
+    }
+
+    @Test
+    @DisplayName("suggestTags should return nothing for a blank prefix")
+    void suggestTags_whenPrefixBlank_shouldReturnEmpty() {
+        assertTrue(tagService.suggestTags("  ", 10).isEmpty());
+        verifyNoInteractions(tagCatalog);
     }
 
     @Test
@@ -98,6 +176,7 @@ class TagServiceTest {
         assertEquals("java", response.getName());
         verify(authorizationService).checkAdmin();
         verify(tagRepository).save(any(Tag.class));
+        verify(tagCatalog).refresh(1L);
     }
 
     @Test
@@ -106,6 +185,7 @@ class TagServiceTest {
         doNothing().when(authorizationService).checkAdmin();
         when(tagRepository.findById(1L)).thenReturn(Optional.of(tag));
         when(tagRepository.save(any(Tag.class))).thenReturn(tag);
+        when(cacheManager.getCache("posts")).thenReturn(postCache);
 
         TagRequest request = new TagRequest();
         request.setName("spring");
@@ -117,6 +197,8 @@ class TagServiceTest {
         verify(authorizationService).checkAdmin();
         verify(tagRepository).findById(1L);
         verify(tagRepository).save(tag);
+        verify(postCache).clear();
+        verify(tagCatalog).refresh(1L);
     }
 
     @Test
@@ -140,12 +222,17 @@ class TagServiceTest {
         doNothing().when(authorizationService).checkAdmin();
         when(tagRepository.existsById(1L)).thenReturn(true);
         doNothing().when(tagRepository).deleteById(1L);
+        when(cacheManager.getCache("posts")).thenReturn(postCache);
 
         tagService.deleteTag(1L);
 
         verify(authorizationService).checkAdmin();
         verify(tagRepository).existsById(1L);
         verify(tagRepository).deleteById(1L);
+        verify(postCache).clear();
+        verify(tagCatalog).refresh(1L);
+        verify(postTagIndex).removeTag(1L);
+        verify(cacheInvalidator).publish(InvalidationEvent.TAGS, 1L);
     }
 
     @Test
@@ -159,4 +246,8 @@ class TagServiceTest {
         verify(authorizationService).checkAdmin();
         verify(tagRepository).existsById(1L);
     }
-}
\ No newline at end of file
+
+    private TagCatalog.Snapshot snapshotOf(Tag... tags) {
+        return TagCatalog.Snapshot.build(List.of(tags), new ObjectMapper());
+    }
+}
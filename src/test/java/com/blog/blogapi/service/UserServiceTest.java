@@ -1,35 +1,59 @@
 package com.blog.blogapi.service;
 
-import java.util.ArrayList;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import org.hibernate.exception.ConstraintViolationException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import com.blog.blogapi.dto.CursorPage;
+import com.blog.blogapi.dto.RoleUpdateRequest;
+import com.blog.blogapi.dto.UserAvailabilityResponse;
 import com.blog.blogapi.dto.UserRegistrationRequest;
 import com.blog.blogapi.dto.UserResponse;
 import com.blog.blogapi.exception.DuplicateResourceException;
+import com.blog.blogapi.exception.InvalidRequestException;
 import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.CacheInvalidator;
+import com.blog.blogapi.invalidation.InvalidationEvent;
 import com.blog.blogapi.model.Role;
 import com.blog.blogapi.model.User;
 import com.blog.blogapi.repository.UserRepository;
+import com.blog.blogapi.security.TokenVersionRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -43,6 +67,24 @@ class UserServiceTest {
     @Mock
     private AuthorizationService authorizationService; // Eklendi
 
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private FirstAdminRegistry firstAdminRegistry;
+
+    @Mock
+    private UserAvailabilityIndex userAvailabilityIndex;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private UserService userService;
 
@@ -98,31 +140,53 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("getAllUsers should return list of users when admin is authorized")
-    void getAllUsers_whenAdminAuthorized_shouldReturnUserList() {
+    @DisplayName("getUsers should return a keyset page with a cursor when more users follow")
+    void getUsers_whenMoreUsers_shouldReturnCursor() {
         // Given
-        doNothing().when(authorizationService).checkAdmin();
-        List<User> users = new ArrayList<>();
-        users.add(user1);
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findUserPage(Role.ADMIN, "test", Long.MAX_VALUE, 3))
+                .thenReturn(List.of(response(9L), response(7L), response(4L)));
 
         // When
-        List<UserResponse> foundUsers = userService.getAllUsers();
+        CursorPage<UserResponse> page = userService.getUsers("admin", "test", null, 2);
 
         // Then
-        assertNotNull(foundUsers);
-        assertEquals(1, foundUsers.size());
-        assertEquals("testuser1", foundUsers.get(0).getUsername());
+        assertEquals(List.of(9L, 7L), page.getContent().stream().map(UserResponse::getId).toList());
+        assertTrue(page.isHasNext());
+        assertEquals(CursorCodec.encode(7L), page.getNextCursor());
+        verify(authorizationService).checkAdmin();
+    }
+
+    @Test
+    @DisplayName("getUsers should reject an unknown role filter")
+    void getUsers_whenRoleUnknown_shouldThrowException() {
+        assertThrows(InvalidRequestException.class, () -> userService.getUsers("owner", null, null, 10));
+        verify(userRepository, never()).findUserPage(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("exportUsers should write one JSON object per line")
+    void exportUsers_shouldWriteNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<UserResponse> sink = invocation.getArgument(2);
+            sink.accept(response(2L));
+            sink.accept(response(1L));
+            return null;
+        }).when(userRepository).streamUsers(isNull(), isNull(), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        userService.exportUsers(null, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(2L, objectMapper.readValue(lines[0], UserResponse.class).getId());
+        assertEquals("user1@example.com", objectMapper.readValue(lines[1], UserResponse.class).getEmail());
         verify(authorizationService).checkAdmin();
-        verify(userRepository).findAll();
     }
 
     @Test
-    @DisplayName("registerUser should successfully register new user")
+    @DisplayName("registerUser should insert the user once without existence checks")
     void registerUser_whenValidRequest_shouldRegisterUser() {
         // Arrange
-        when(userRepository.existsByUsername(registrationRequest.getUsername())).thenReturn(false);
-        when(userRepository.existsByEmail(registrationRequest.getEmail())).thenReturn(false);
         when(passwordEncoder.encode(registrationRequest.getPassword())).thenReturn("encodedNewPassword");
 
         User savedUser = new User();
@@ -138,46 +202,173 @@ class UserServiceTest {
         // Assert
         assertNotNull(response);
         assertEquals(registrationRequest.getUsername(), response.getUsername());
-        verify(userRepository).existsByUsername(registrationRequest.getUsername());
-        verify(userRepository).existsByEmail(registrationRequest.getEmail());
+        assertEquals("USER", response.getRole());
         verify(passwordEncoder).encode(registrationRequest.getPassword());
         verify(userRepository).save(argThat(user -> user.getUsername().equals(registrationRequest.getUsername()) &&
                 user.getEmail().equals(registrationRequest.getEmail()) &&
                 user.getPassword().equals("encodedNewPassword")));
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).count();
+        verify(firstAdminRegistry, never()).claim(any());
+        verify(userAvailabilityIndex).add("newuser", "newuser@example.com");
+        verify(cacheInvalidator).publish(InvalidationEvent.USERS, 2L);
+    }
+
+    @Test
+    @DisplayName("checkAvailability should answer a filter miss without touching the database")
+    void checkAvailability_whenFilterMisses_shouldSkipDatabase() {
+        when(userAvailabilityIndex.mightHaveUsername("newuser")).thenReturn(false);
+        when(userAvailabilityIndex.mightHaveEmail("newuser@example.com")).thenReturn(false);
+
+        UserAvailabilityResponse response = userService.checkAvailability("newuser", "newuser@example.com");
+
+        assertEquals(true, response.getUsernameAvailable());
+        assertEquals(true, response.getEmailAvailable());
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("checkAvailability should confirm a possible hit in the database")
+    void checkAvailability_whenFilterHits_shouldConfirmInDatabase() {
+        when(userAvailabilityIndex.mightHaveUsername("testuser1")).thenReturn(true);
+        when(userRepository.existsByUsername("testuser1")).thenReturn(true);
+
+        UserAvailabilityResponse response = userService.checkAvailability("testuser1", " ");
+
+        assertEquals(false, response.getUsernameAvailable());
+        assertNull(response.getEmailAvailable());
+    }
+
+    @Test
+    @DisplayName("registerUser should make the first user admin and take the admin seat")
+    void registerUser_whenSeatFree_shouldRegisterAdmin() {
+        when(passwordEncoder.encode(registrationRequest.getPassword())).thenReturn("encodedNewPassword");
+        when(firstAdminRegistry.mayClaim()).thenReturn(true);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            user.setId(2L);
+            return user;
+        });
+
+        UserResponse response = userService.registerUser(registrationRequest);
+
+        assertEquals("ADMIN", response.getRole());
+        verify(firstAdminRegistry).claim(2L);
+        verify(firstAdminRegistry).markClaimed();
+    }
+
+    @Test
+    @DisplayName("registerUser should register a plain user when another signup took the admin seat")
+    void registerUser_whenSeatLost_shouldRetryAsUser() {
+        when(passwordEncoder.encode(registrationRequest.getPassword())).thenReturn("encodedNewPassword");
+        when(firstAdminRegistry.mayClaim()).thenReturn(true);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            user.setId(2L);
+            return user;
+        });
+        doThrow(violation("admin_claim_pkey")).when(firstAdminRegistry).claim(2L);
+
+        UserResponse response = userService.registerUser(registrationRequest);
+
+        assertEquals("USER", response.getRole());
+        verify(firstAdminRegistry).markClaimed();
+        verify(userRepository, times(2)).save(any(User.class));
     }
 
     @Test
     @DisplayName("registerUser should throw DuplicateResourceException if username exists")
     void registerUser_whenUsernameExists_shouldThrowDuplicateResourceException() {
         // Arrange
-        when(userRepository.existsByUsername(registrationRequest.getUsername())).thenReturn(true);
+        when(passwordEncoder.encode(registrationRequest.getPassword())).thenReturn("encodedNewPassword");
+        when(userRepository.save(any(User.class))).thenThrow(violation("uk_r43af9ap4edm43mmtq01oddj6"));
+        when(userRepository.findByUsername("newuser")).thenReturn(Optional.of(user1));
 
         // Act & Assert
         var exception = assertThrows(DuplicateResourceException.class, () -> {
             userService.registerUser(registrationRequest);
         });
         assertEquals("User with username 'newuser' already exists.", exception.getMessage());
-        verify(userRepository).existsByUsername(registrationRequest.getUsername());
-        verify(userRepository, never()).existsByEmail(anyString());
-        verify(passwordEncoder, never()).encode(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).findByEmail(anyString());
     }
 
     @Test
     @DisplayName("registerUser should throw DuplicateResourceException if email exists")
     void registerUser_whenEmailExists_shouldThrowDuplicateResourceException() {
         // Arrange
-        when(userRepository.existsByUsername(registrationRequest.getUsername())).thenReturn(false);
-        when(userRepository.existsByEmail(registrationRequest.getEmail())).thenReturn(true);
+        when(passwordEncoder.encode(registrationRequest.getPassword())).thenReturn("encodedNewPassword");
+        when(userRepository.save(any(User.class))).thenThrow(violation("uk_6dotkott2kjsp8vw4d0m25fb7"));
+        when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+        when(userRepository.findByEmail("newuser@example.com")).thenReturn(Optional.of(user1));
 
         // Act & Assert
         var exception = assertThrows(DuplicateResourceException.class, () -> {
             userService.registerUser(registrationRequest);
         });
         assertEquals("User with email 'newuser@example.com' already exists.", exception.getMessage());
-        verify(userRepository).existsByUsername(registrationRequest.getUsername());
-        verify(userRepository).existsByEmail(registrationRequest.getEmail());
-        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("registerUser should rethrow a violation when neither value is taken")
+    void registerUser_whenNothingTaken_shouldRethrowViolation() {
+        when(passwordEncoder.encode(registrationRequest.getPassword())).thenReturn("encodedNewPassword");
+        DataIntegrityViolationException violation = violation("some_other_constraint");
+        when(userRepository.save(any(User.class))).thenThrow(violation);
+        when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
+        when(userRepository.findByEmail("newuser@example.com")).thenReturn(Optional.empty());
+
+        var exception = assertThrows(DataIntegrityViolationException.class,
+                () -> userService.registerUser(registrationRequest));
+
+        assertSame(violation, exception);
+    }
+
+    @Test
+    @DisplayName("updateUserRole should change the role, bump the token version and drop the cached version")
+    void updateUserRole_whenRoleChanges_shouldRevokeTokens() {
+        // Given
+        doNothing().when(authorizationService).checkAdmin();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user1));
+        when(userRepository.save(user1)).thenReturn(user1);
+        RoleUpdateRequest request = new RoleUpdateRequest();
+        request.setRole("admin");
+
+        // When
+        UserResponse response = userService.updateUserRole(1L, request);
+
+        // Then
+        assertEquals("ADMIN", response.getRole());
+        assertEquals(1, user1.getTokenVersion());
+        verify(tokenVersionRegistry).evict(1L);
+        verify(cacheInvalidator).publish(InvalidationEvent.TOKEN_VERSIONS, 1L);
+    }
+
+    @Test
+    @DisplayName("updateUserRole should reject unknown roles")
+    void updateUserRole_whenRoleUnknown_shouldThrowInvalidRequest() {
+        // Given
+        doNothing().when(authorizationService).checkAdmin();
+        RoleUpdateRequest request = new RoleUpdateRequest();
+        request.setRole("superuser");
+
+        // Then
+        assertThrows(InvalidRequestException.class, () -> userService.updateUserRole(1L, request));
         verify(userRepository, never()).save(any(User.class));
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException violation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), constraint));
+    }
+
+    private static UserResponse response(Long id) {
+        UserResponse response = new UserResponse();
+        response.setId(id);
+        response.setUsername("user" + id);
+        response.setEmail("user" + id + "@example.com");
+        response.setRole("USER");
+        return response;
+    }
+}
@@ -254,6 +254,13 @@ resource "aws_security_group" "ecs_sg" {
     protocol    = "tcp"
     cidr_blocks = ["0.0.0.0/0"]
   }
+  # Actuator port: unauthenticated metrics, so only reachable from inside the VPC
+  ingress {
+    from_port   = 8081
+    to_port     = 8081
+    protocol    = "tcp"
+    cidr_blocks = [data.aws_vpc.default.cidr_block]
+  }
   egress {
     from_port   = 0
     to_port     = 0
@@ -325,10 +332,16 @@ resource "aws_ecs_task_definition" "app" {
       name      = "${var.project_name}-container"
       image     = "${aws_ecr_repository.app.repository_url}:latest"
       essential = true
-      portMappings = [{
-        containerPort = 8080,
-        hostPort      = 8080
-      }]
+      portMappings = [
+        {
+          containerPort = 8080,
+          hostPort      = 8080
+        },
+        {
+          containerPort = 8081,
+          hostPort      = 8081
+        }
+      ]
       environment = [
         {
           name  = "SPRING_DATASOURCE_URL"
@@ -338,6 +351,18 @@ resource "aws_ecs_task_definition" "app" {
           name  = "SPRING_DATASOURCE_USERNAME"
           value = var.db_user
         },
+        {
+          name  = "CACHE_INVALIDATION_BUS"
+          value = "postgres"
+        },
+        {
+          name  = "BCRYPT_STRENGTH"
+          value = tostring(var.bcrypt_strength)
+        },
+        {
+          name  = "MANAGEMENT_PORT"
+          value = "8081"
+        },
         {
           name  = "JAVA_OPTS"
           value = "-Xmx192m -Xms192m"
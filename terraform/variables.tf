@@ -37,3 +37,8 @@ variable "github_branch" {
   default     = "main"
 }
 
+variable "bcrypt_strength" {
+  description = "BCrypt cost shared by every app task"
+  type        = number
+  default     = 12
+}